@@ -0,0 +1,79 @@
+package com.example.namoldak.util.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.concurrent.*;
+
+// 기능 : 로그인이 몰리는 동안 같은 요청 스레드 풀(Tomcat 역할)을 쓰는 게임 요청의 지연 비교
+// inline : 요청 스레드에서 BCrypt 비교 / hasher : 요청 스레드는 PasswordHasher 에 비교를 넘기기만 함
+// 게임 요청(GameRequest)의 p99 를 비교, 실행 : ./gradlew jmh
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHasherBenchmark {
+    private static final int REQUEST_THREADS = 4;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+    private PasswordHasher passwordHasher;
+    private ExecutorService requestPool;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(8);
+        encoded = encoder.encode("password");
+        passwordHasher = new PasswordHasher(encoder, 2, 16);
+        requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestPool.shutdownNow();
+        passwordHasher.destroy();
+    }
+
+    // 요청 스레드에서 직접 비교
+    @Benchmark
+    @Group("inline")
+    @GroupThreads(6)
+    public Boolean inlineLogin() throws Exception {
+        return requestPool.submit(() -> encoder.matches("password", encoded)).get();
+    }
+
+    @Benchmark
+    @Group("inline")
+    @GroupThreads(1)
+    public Boolean inlineGameRequest() throws Exception {
+        return requestPool.submit(PasswordHasherBenchmark::gameRequest).get();
+    }
+
+    // 요청 스레드는 PasswordHasher 에 넘기고 바로 반환 (대기열이 가득 찬 로그인은 바로 실패)
+    @Benchmark
+    @Group("hasher")
+    @GroupThreads(6)
+    public Boolean hasherLogin() throws Exception {
+        CompletableFuture<Boolean> matched = requestPool.submit(() -> passwordHasher.matches("password", encoded)).get();
+        try {
+            return matched.get();
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("hasher")
+    @GroupThreads(1)
+    public Boolean hasherGameRequest() throws Exception {
+        return requestPool.submit(PasswordHasherBenchmark::gameRequest).get();
+    }
+
+    // DB 조회 없는 가벼운 게임 요청
+    private static Boolean gameRequest() {
+        Blackhole.consumeCPU(1_000);
+        return true;
+    }
+}
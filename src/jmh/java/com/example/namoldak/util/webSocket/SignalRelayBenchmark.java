@@ -0,0 +1,57 @@
+package com.example.namoldak.util.webSocket;
+
+import com.example.namoldak.dto.RequestDto.WebSocketMessage;
+import com.example.namoldak.dto.ResponseDto.WebSocketResponseMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 기능 : candidate 중계 시 기존 방식(전체 역직렬화 -> 응답 객체 -> 직렬화)과 라우팅 필드만 읽는 방식 비교
+// 실행 : ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignalRelayBenchmark {
+    private static final String SENDER_ID = "a1b2c3d4";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 브라우저가 보내는 candidate 메세지와 같은 모양
+    private String candidatePayload;
+
+    @Setup
+    public void setUp() {
+        candidatePayload = "{\"type\":\"candidate\",\"roomId\":12,\"sender\":\"닭다리\",\"nickname\":\"닭다리\","
+                + "\"receiver\":\"e5f6g7h8\",\"candidate\":{\"candidate\":\"candidate:842163049 1 udp 1677729535 "
+                + "203.0.113.7 49203 typ srflx raddr 192.168.0.12 rport 49203 generation 0 ufrag Yq3c network-cost 999\","
+                + "\"sdpMid\":\"0\",\"sdpMLineIndex\":0,\"usernameFragment\":\"Yq3c\"}}";
+    }
+
+    // 기존 방식
+    @Benchmark
+    public String fullRoundTrip() throws IOException {
+        WebSocketMessage message = objectMapper.readValue(candidatePayload, WebSocketMessage.class);
+        return objectMapper.writeValueAsString(WebSocketResponseMessage.builder()
+                .type(message.getType())
+                .sender(SENDER_ID)
+                .senderNickName(message.getNickname())
+                .receiver(message.getReceiver())
+                .data(message.getData())
+                .offer(message.getOffer())
+                .answer(message.getAnswer())
+                .candidate(message.getCandidate())
+                .sdp(message.getSdp())
+                .build());
+    }
+
+    // 라우팅 필드만 읽고 중계할 값은 원본을 그대로 복사하는 방식
+    @Benchmark
+    public String routingOnlyRelay() throws IOException {
+        SignalRelay.Routing routing = SignalRelay.parseRouting(candidatePayload);
+        return SignalRelay.withSender(routing, SENDER_ID);
+    }
+}
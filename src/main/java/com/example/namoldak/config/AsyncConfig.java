@@ -0,0 +1,26 @@
+package com.example.namoldak.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 기능 : 비동기로 처리하는 회원 요청의 후속 작업(DB 저장, 토큰 발급)을 실행할 스레드 풀
+// 비밀번호 암호화 스레드와 카카오 API 응답 스레드는 본래 작업만 하고, 이어지는 DB 작업은 이 풀로 넘긴다
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor memberTaskExecutor(@Value("${namoldak.member.task-threads:8}") int threads,
+                                                     @Value("${namoldak.member.task-queue-limit:256}") int queueLimit) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueLimit);
+        executor.setThreadNamePrefix("member-task-");
+        // 대기열이 가득 차면 넘긴 스레드(암호화, HTTP 클라이언트)에서 실행하지 않고 거절 (AsyncSteps 에서 503 으로 바꿈)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
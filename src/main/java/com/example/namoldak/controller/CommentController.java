@@ -2,6 +2,8 @@ package com.example.namoldak.controller;
 
 import com.example.namoldak.dto.RequestDto.CommentRequestDto;
 import com.example.namoldak.dto.ResponseDto.CommentResponseDto;
+import com.example.namoldak.dto.ResponseDto.CommentTreeResponseListDto;
+import com.example.namoldak.dto.ResponseDto.CursorResponseDto;
 import com.example.namoldak.service.CommentService;
 import com.example.namoldak.util.GlobalResponse.GlobalResponseDto;
 import com.example.namoldak.util.GlobalResponse.ResponseUtil;
@@ -10,9 +12,11 @@ import com.example.namoldak.util.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
 
 // 기능 : 댓글 컨트롤러
 @RestController
@@ -29,6 +33,22 @@ public class CommentController {
         return ResponseUtil.response(commentService.getAllComment(postId, pageable));
     }
 
+    // 대댓글을 포함한 댓글 트리 불러오기 (최상위 댓글 기준 페이징)
+    @GetMapping("/{postId}/comments/tree")
+    public ResponseEntity<CommentTreeResponseListDto> getCommentTree(@PathVariable Long postId,
+                                                                     @PageableDefault(page = 0, size = 10) Pageable pageable) {
+        return ResponseUtil.response(commentService.getCommentTree(postId, pageable));
+    }
+
+    // 댓글 무한 스크롤 (첫 요청은 커서 없이, 이후에는 응답의 nextCreatedAt, nextId 를 넘김)
+    @GetMapping("/{postId}/comments/cursor")
+    public ResponseEntity<CursorResponseDto<CommentResponseDto>> getCommentsByCursor(@PathVariable Long postId,
+                                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAt,
+                                                                                     @RequestParam(required = false) Long id,
+                                                                                     @RequestParam(defaultValue = "10") int size) {
+        return ResponseUtil.response(commentService.getCommentsByCursor(postId, createdAt, id, size));
+    }
+
     // 댓글 작성
     @PostMapping("/{postId}/comments")
     public ResponseEntity<CommentResponseDto> createComment(
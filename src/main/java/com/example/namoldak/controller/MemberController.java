@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.*;
 
 // 기능 : 멤버 로그인, 회원가입 관련 컨트롤
@@ -28,16 +29,15 @@ public class MemberController {
 
     // 회원가입
     @PostMapping(value = "/auth/signup")
-    public ResponseEntity<GlobalResponseDto> signup(@RequestBody SignupRequestDto signupRequestDto) {
-        memberService.signup(signupRequestDto);
-        return ResponseUtil.response(SIGNUP_OK);
+    public CompletableFuture<ResponseEntity<GlobalResponseDto>> signup(@RequestBody SignupRequestDto signupRequestDto) {
+        return memberService.signup(signupRequestDto).thenApply(saved -> ResponseUtil.response(SIGNUP_OK));
     }
 
     // 로그인
     @PostMapping(value = "/auth/login")
-    public ResponseEntity<MemberResponseDto> login(@RequestBody SignupRequestDto signupRequestDto,
-                                                   HttpServletResponse response) {
-        return ResponseUtil.response(memberService.login(signupRequestDto, response));
+    public CompletableFuture<ResponseEntity<MemberResponseDto>> login(@RequestBody SignupRequestDto signupRequestDto,
+                                                                      HttpServletResponse response) {
+        return memberService.login(signupRequestDto, response).thenApply(memberResponseDto -> ResponseUtil.response(memberResponseDto));
     }
 
     // 이메일 중복 확인
@@ -54,17 +54,17 @@ public class MemberController {
 
     // 카카오 로그인
     @GetMapping("/auth/kakao/callback")
-    public ResponseEntity<String> kakaoLogin(@RequestParam String code,
-                                             HttpServletResponse response) {
-        return ResponseUtil.response(kakaoService.kakaoLogin(code, response));
+    public CompletableFuture<ResponseEntity<String>> kakaoLogin(@RequestParam String code,
+                                                                HttpServletResponse response) {
+        return kakaoService.kakaoLogin(code, response).thenApply(nickname -> ResponseUtil.response(nickname));
     }
 
     // 회원탈퇴
     @DeleteMapping("/auth/deleteMember")
-    public ResponseEntity<GlobalResponseDto> deleteMember(@AuthenticationPrincipal UserDetailsImpl userDetails,
-                                                          @RequestBody DeleteMemberRequestDto deleteMemberRequestDto) {
-        memberService.deleteMember(userDetails.getMember(), deleteMemberRequestDto);
-        return ResponseUtil.response(DELETE_MEMBER_OK);
+    public CompletableFuture<ResponseEntity<GlobalResponseDto>> deleteMember(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                             @RequestBody DeleteMemberRequestDto deleteMemberRequestDto) {
+        return memberService.deleteMember(userDetails.getMember(), deleteMemberRequestDto)
+                .thenApply(deleted -> ResponseUtil.response(DELETE_MEMBER_OK));
     }
 
     // 카카오 회원 탈퇴
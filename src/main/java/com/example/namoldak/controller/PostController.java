@@ -1,6 +1,7 @@
 package com.example.namoldak.controller;
 
 import com.example.namoldak.dto.RequestDto.PostRequestDto;
+import com.example.namoldak.dto.ResponseDto.CursorResponseDto;
 import com.example.namoldak.dto.ResponseDto.PostResponseDto;
 import com.example.namoldak.dto.ResponseDto.PostResponseListDto;
 import com.example.namoldak.service.PostService;
@@ -12,11 +13,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import java.time.LocalDateTime;
 import java.util.List;
 
 // 기능: 포스트 관련 CRUD 컨트롤러
@@ -40,6 +43,15 @@ public class PostController {
         return ResponseUtil.response(postService.getFreeBoard(pageable, category));
     }
 
+    // 게시글 자유게시판 무한 스크롤 (첫 요청은 커서 없이, 이후에는 응답의 nextCreatedAt, nextId 를 넘김)
+    @GetMapping("/posts/cursor") //'/posts/cursor?category=freeboard&createdAt=2023-01-01T00:00:00.000000&id=10&size=10'
+    public ResponseEntity<CursorResponseDto<PostResponseDto>> getFreeBoardByCursor(@RequestParam String category,
+                                                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAt,
+                                                                                   @RequestParam(required = false) Long id,
+                                                                                   @RequestParam(defaultValue = "10") int size) {
+        return ResponseUtil.response(postService.getFreeBoardByCursor(category, createdAt, id, size));
+    }
+
     // 게시글 내가쓴피드백 불러오기
     @GetMapping("/posts/myPost") //'posts?category=feedback&page=0&size=10'
     public ResponseEntity<PostResponseListDto> getMyPost(@PageableDefault(page = 0, size = 10) Pageable pageable,
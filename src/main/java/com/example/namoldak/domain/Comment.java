@@ -9,6 +9,7 @@ import java.util.List;
 
 // 기능 : 댓글 정보 Entity
 @Entity
+@Table(indexes = @Index(name = "idx_comment_post_created_at_id", columnList = "post_id, created_at, id"))  // 커서 페이징용
 @Getter
 @NoArgsConstructor
 public class Comment extends Timestamped {
@@ -54,6 +55,15 @@ public class Comment extends Timestamped {
         this.post = post;
     }
 
+    // 자신과 모든 대댓글의 수 (삭제하면 함께 지워지는 댓글 수)
+    public int countWithReplies() {
+        int cnt = 1;
+        for (Comment child : children) {
+            cnt += child.countWithReplies();
+        }
+        return cnt;
+    }
+
     public void update(CommentRequestDto commentRequestDto) {
         this.comment = commentRequestDto.getComment();
     }
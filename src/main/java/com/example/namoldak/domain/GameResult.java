@@ -0,0 +1,25 @@
+package com.example.namoldak.domain;
+
+import lombok.Getter;
+import java.util.Collections;
+import java.util.List;
+
+// 기능 : 정상 종료된 게임 한 판의 결과 (전적, 리워드 반영용 / 만든 뒤에는 바뀌지 않음)
+@Getter
+public class GameResult {
+    private final Long roomId;
+    private final List<Long> memberIds;     // 참가자 멤버 Id
+    private final Long winnerId;            // 정답자 멤버 Id (정답자가 없으면 null)
+    private final long playTime;            // 플레이 시간 (초)
+
+    public GameResult(Long roomId, List<Long> memberIds, Long winnerId, long playTime) {
+        this.roomId    = roomId;
+        this.memberIds = Collections.unmodifiableList(memberIds);
+        this.winnerId  = winnerId;
+        this.playTime  = playTime;
+    }
+
+    public boolean isWinner(Long memberId) {
+        return memberId.equals(winnerId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.namoldak.domain;
 
+import com.example.namoldak.util.converter.KeywordAssignmentConverter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,7 +26,8 @@ public class GameStartSet{
     private String category;
 
     @Column
-    private String keywordToMember;     // JSON화
+    @Convert(converter = KeywordAssignmentConverter.class)
+    private KeywordAssignment keywordToMember;     // 닉네임 - 키워드 배당
 
     @Column(nullable = false)
     private Integer round;
@@ -0,0 +1,72 @@
+package com.example.namoldak.domain;
+
+import lombok.Getter;
+import java.util.Collections;
+import java.util.List;
+
+// 기능 : 진행 중인 게임의 상태를 메모리에서 관리 (라운드, 발언 순서, 정답자, 키워드 배당)
+@Getter
+public class GameState {
+    // 마지막 라운드 (0 ~ 7, 총 8라운드)
+    public static final int LAST_ROUND = 7;
+
+    private final Long roomId;
+    private final String category;
+    private final List<String> playerOrder;             // 발언 순서 (게임 시작 시점의 참가자 닉네임)
+    private final List<Long> playerIds;                 // 발언 순서와 같은 순서의 참가자 멤버 Id
+    private final KeywordAssignment keywordToMember;    // 닉네임 - 키워드 배당
+    private final Long gameStartTime;
+    private int round;
+    private int spotNum;
+    private String winner = "";
+
+    public GameState(Long roomId, String category, List<String> playerOrder, List<Long> playerIds, KeywordAssignment keywordToMember, Long gameStartTime) {
+        this.roomId          = roomId;
+        this.category        = category;
+        this.playerOrder     = Collections.unmodifiableList(playerOrder);
+        this.playerIds       = Collections.unmodifiableList(playerIds);
+        this.keywordToMember = keywordToMember;
+        this.gameStartTime   = gameStartTime;
+    }
+
+    // 다음 발언자 닉네임 반환, 마지막 라운드까지 모두 끝났다면 null
+    public synchronized String nextSpotlight() {
+        if (spotNum == playerOrder.size()) {
+            if (round >= LAST_ROUND) {
+                return null;
+            }
+            // 한 라운드 종료, 라운드 +1 , 위치 정보 초기화
+            round++;
+            spotNum = 0;
+        }
+        return playerOrder.get(spotNum++);
+    }
+
+    // 정답 확인 후 맞췄다면 정답자로 기록
+    public synchronized boolean checkAnswer(String nickname, String answer) {
+        if (keywordToMember.isAnswer(nickname, answer)) {
+            this.winner = nickname;
+            return true;
+        }
+        return false;
+    }
+
+    // 게임 결과 기록 생성 (정답자가 없으면 winnerId 는 null)
+    public synchronized GameResult toResult(long endTime) {
+        int winnerIndex = playerOrder.indexOf(winner);
+        Long winnerId = winnerIndex < 0 ? null : playerIds.get(winnerIndex);
+        return new GameResult(roomId, playerIds, winnerId, (endTime - gameStartTime) / 1000);
+    }
+
+    public synchronized int getRound() {
+        return round;
+    }
+
+    public synchronized int getSpotNum() {
+        return spotNum;
+    }
+
+    public synchronized String getWinner() {
+        return winner;
+    }
+}
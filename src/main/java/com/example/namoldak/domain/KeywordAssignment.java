@@ -0,0 +1,44 @@
+package com.example.namoldak.domain;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 기능 : 참가자별 키워드 배당 정보 (게임 시작 시 한 번 만들어 두고 정답 확인은 닉네임 조회 한 번으로 처리)
+public class KeywordAssignment {
+    private final Map<String, String> keywordByNickname;  // 발언 순서를 유지하는 닉네임 - 키워드 배당
+
+    private KeywordAssignment(Map<String, String> keywordByNickname) {
+        this.keywordByNickname = Collections.unmodifiableMap(keywordByNickname);
+    }
+
+    // 참가자 닉네임 순서대로 키워드 배당
+    public static KeywordAssignment of(List<String> nicknameList, List<String> keywordList) {
+        Map<String, String> keywordByNickname = new LinkedHashMap<>();
+        for (int i = 0; i < keywordList.size(); i++) {
+            keywordByNickname.put(nicknameList.get(i), keywordList.get(i));
+        }
+        return new KeywordAssignment(keywordByNickname);
+    }
+
+    // 이미 만들어진 닉네임 - 키워드 Map으로 생성 (DB 저장값 복원용)
+    public static KeywordAssignment of(Map<String, String> keywordByNickname) {
+        return new KeywordAssignment(new LinkedHashMap<>(keywordByNickname));
+    }
+
+    // 닉네임으로 배당된 키워드 조회
+    public String getKeyword(String nickname) {
+        return keywordByNickname.get(nickname);
+    }
+
+    // 정답 여부 확인
+    public boolean isAnswer(String nickname, String answer) {
+        return answer.equals(keywordByNickname.get(nickname));
+    }
+
+    // 웹소켓 전송용 닉네임 - 키워드 Map (읽기 전용)
+    public Map<String, String> asMap() {
+        return keywordByNickname;
+    }
+}
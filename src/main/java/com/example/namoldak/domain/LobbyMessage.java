@@ -0,0 +1,21 @@
+package com.example.namoldak.domain;
+
+import com.example.namoldak.dto.ResponseDto.GameRoomResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 기능 : 로비(/sub/lobby) 구독자에게 보내는 게임룸 목록 변경분 메세지
+// version 은 스냅샷이 바뀔 때마다 1씩 증가하므로, 클라이언트는 받은 목록의 version 보다 작은 변경분은 무시하면 된다
+@Getter
+@AllArgsConstructor
+public class LobbyMessage {
+
+    private MessageType type;
+    private long version;
+    private Long roomId;
+    private GameRoomResponseDto room;   // DELETE, RESET 일 때는 null
+
+    public enum MessageType {
+        CREATE, UPDATE, DELETE, RESET
+    }
+}
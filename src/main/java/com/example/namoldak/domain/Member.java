@@ -27,25 +27,26 @@ public class Member extends Timestamped{
     @Column
     private Long kakaoId;
 
-    @Column
+    // 전적 카운터는 MemberCounterRepository 의 증가 UPDATE 로만 바꿈 (엔티티 수정 시 읽어온 값으로 덮어쓰지 않도록)
+    @Column(updatable = false)
     private Long winNum = 0L;
 
-    @Column
+    @Column(updatable = false)
     private Long loseNum = 0L;
 
-    @Column
+    @Column(updatable = false)
     private Long totalGameNum = 0L;
 
-    @Column
+    @Column(updatable = false)
     private Long enterGameNum = 0L;
 
-    @Column
+    @Column(updatable = false)
     private Long soloExitNum = 0L;
 
-    @Column
+    @Column(updatable = false)
     private Long makeRoomNum = 0L;
 
-    @Column
+    @Column(updatable = false)
     private Long playTime = 0L;
 
     public Member(String email, String nickname, String password) {
@@ -64,31 +65,4 @@ public class Member extends Timestamped{
     public void update(SignupRequestDto signupRequestDto) {
         this.nickname = signupRequestDto.getNickname();
     }
-
-    public void updateWinNum(Long num) {
-        this.winNum += num;
-    }
-
-    public void updateLoseNum(Long num) {
-        this.loseNum += num;
-    }
-
-    public void updateTotalGame(Long num) {
-        this.totalGameNum += num;
-    }
-
-    public void updateSoloExit(Long num) {
-        this.soloExitNum += num;
-    }
-
-    public void updateMakeRoom(Long num) {
-        this.makeRoomNum += num;
-    }
-
-    public void updateEnterGame(Long num) {
-        this.enterGameNum += num;
-    }
-    public void updatePlayTime(Long num) {
-        this.playTime += num;
-    }
 }
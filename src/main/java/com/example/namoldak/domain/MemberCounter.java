@@ -0,0 +1,27 @@
+package com.example.namoldak.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.function.Function;
+
+// 기능 : 멤버 활동 기록 카운터와 DB 컬럼
+@Getter
+@RequiredArgsConstructor
+public enum MemberCounter {
+    WIN_NUM("win_num", Member::getWinNum),                      // 승리 횟수
+    LOSE_NUM("lose_num", Member::getLoseNum),                   // 패배 횟수
+    TOTAL_GAME_NUM("total_game_num", Member::getTotalGameNum),  // 총 게임 수
+    ENTER_GAME_NUM("enter_game_num", Member::getEnterGameNum),  // 게임방 입장 횟수
+    SOLO_EXIT_NUM("solo_exit_num", Member::getSoloExitNum),     // 혼자 남은 방에서 나간 횟수
+    MAKE_ROOM_NUM("make_room_num", Member::getMakeRoomNum),     // 게임방 생성 횟수
+    PLAY_TIME("play_time", Member::getPlayTime);                // 플레이 시간 (초)
+
+    private final String column;
+    private final Function<Member, Long> reader;
+
+    // 멤버의 현재 카운터 값
+    public long valueOf(Member member) {
+        Long value = reader.apply(member);
+        return value == null ? 0L : value;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 // 기능 : 포스트 정보 Entity
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_post_category_created_at_id", columnList = "category, created_at, id"))  // 커서 페이징용
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post extends Timestamped {
@@ -28,6 +29,8 @@ public class Post extends Timestamped {
     private String nickname;                                                  // 작성자 닉네임
     @Column
     private String category;                                                  // 카테고리
+    @Column(nullable = false, updatable = false)                              // 게시글 수정이 읽어둔 예전 값으로 덮어쓰지 않도록 UPDATE 에서 제외
+    private int commentCount;                                                 // 댓글 수 (댓글 작성 / 삭제 때 DB에서 바로 더하고 뺌)
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE)               // 연관된 이미지 파일 정보, cascade로 함께 삭제되도록 설정
     private List<ImageFile> imageFileList = new ArrayList<>();
@@ -11,6 +11,7 @@ import javax.persistence.*;
 @Getter
 @Builder
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "reward_name"}))
 public class Reward {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
@@ -0,0 +1,34 @@
+package com.example.namoldak.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.*;
+
+// 기능 : 리워드 지급 규칙 Entity (카운터가 기준값에 도달하면 리워드 지급, 행을 추가하면 새 업적이 생김)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"counter", "threshold"}))
+public class RewardRule {
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long rewardRuleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MemberCounter counter;
+
+    @Column(nullable = false)
+    private Long threshold;
+
+    @Column(nullable = false)
+    private String rewardName;
+
+    public RewardRule(MemberCounter counter, Long threshold, String rewardName) {
+        this.counter    = counter;
+        this.threshold  = threshold;
+        this.rewardName = rewardName;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.namoldak.domain;
+
+import java.util.*;
+
+// 기능 : 리워드 지급 규칙 색인 (카운터별로 기준값 순 정렬, 만든 뒤에는 바뀌지 않음)
+public class RewardRuleSet {
+    private final Map<MemberCounter, NavigableMap<Long, String>> rewardNameByThreshold;
+
+    public RewardRuleSet(List<RewardRule> rewardRuleList) {
+        Map<MemberCounter, NavigableMap<Long, String>> index = new EnumMap<>(MemberCounter.class);
+        for (RewardRule rewardRule : rewardRuleList) {
+            index.computeIfAbsent(rewardRule.getCounter(), counter -> new TreeMap<>())
+                    .put(rewardRule.getThreshold(), rewardRule.getRewardName());
+        }
+        this.rewardNameByThreshold = index;
+    }
+
+    // 카운터가 before 에서 after 로 증가하면서 도달한 기준의 리워드 이름 (여러 기준을 한 번에 넘어도 모두 반환)
+    public Collection<String> match(MemberCounter counter, long before, long after) {
+        NavigableMap<Long, String> thresholds = rewardNameByThreshold.get(counter);
+        if (thresholds == null || after <= before) {
+            return Collections.emptyList();
+        }
+        return thresholds.subMap(before, false, after, true).values();
+    }
+
+    public boolean isEmpty() {
+        return rewardNameByThreshold.isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.namoldak.domain;
+
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.CANT_ENTER;
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.MEMBER_DUPLICATED;
+
+// 기능 : 게임룸 입장 정원 관리 (DB 락 대신 메모리에서 정원과 중복 입장을 원자적으로 판단)
+// 참가자 집합에 먼저 넣어 중복을 막고, 자리 수는 CAS 로 하나씩 차지한다
+public class RoomAdmission {
+    // 게임룸 최대 정원
+    public static final int CAPACITY = 4;
+
+    private final AtomicInteger occupiedSlots;
+    private final Set<Long> memberIds = ConcurrentHashMap.newKeySet();
+
+    public RoomAdmission(Collection<Long> attendeeMemberIds) {
+        this.memberIds.addAll(attendeeMemberIds);
+        this.occupiedSlots = new AtomicInteger(memberIds.size());
+    }
+
+    // 입장 자리 차지, 입장 전 인원 수 반환
+    public int admit(Long memberId) {
+        if (!memberIds.add(memberId)) {
+            throw new CustomException(MEMBER_DUPLICATED);
+        }
+        while (true) {
+            int occupied = occupiedSlots.get();
+            if (occupied >= CAPACITY) {
+                memberIds.remove(memberId);
+                throw new CustomException(CANT_ENTER);
+            }
+            if (occupiedSlots.compareAndSet(occupied, occupied + 1)) {
+                return occupied;
+            }
+        }
+    }
+
+    // 자리 반납 (입장 실패, 퇴장)
+    public void release(Long memberId) {
+        if (memberIds.remove(memberId)) {
+            occupiedSlots.decrementAndGet();
+        }
+    }
+
+    public boolean contains(Long memberId) {
+        return memberIds.contains(memberId);
+    }
+}
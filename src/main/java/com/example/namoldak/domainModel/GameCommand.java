@@ -4,9 +4,12 @@ import com.example.namoldak.domain.*;
 import com.example.namoldak.repository.GameRoomAttendeeRepository;
 import com.example.namoldak.repository.GameRoomRepository;
 import com.example.namoldak.repository.GameStartSetRepository;
+import com.example.namoldak.repository.RewardGrantRepository;
 import com.example.namoldak.repository.RewardReposiroty;
+import com.example.namoldak.repository.RewardRuleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import java.util.List;
 
 // 기능 : 게임 도메인 관련 DB CUD 관리
 @Service
@@ -17,6 +20,8 @@ public class GameCommand {
     private final GameRoomAttendeeRepository gameRoomAttendeeRepository;
     private final GameStartSetRepository gameStartSetRepository;
     private final RewardReposiroty rewardReposiroty;
+    private final RewardRuleRepository rewardRuleRepository;
+    private final RewardGrantRepository rewardGrantRepository;
 
     //////////////TODO GameRoom 관련
     // 게임방 저장하기
@@ -57,4 +62,14 @@ public class GameCommand {
         rewardReposiroty.save(reward);
     }
 
+    // 리워드 여러 개를 batch insert 로 저장 ({멤버 Id, 리워드 이름}, 이미 받은 리워드는 무시)
+    public void saveRewardsIgnoringDuplicates(List<Object[]> memberIdAndRewardNames) {
+        rewardGrantRepository.insertIgnoreAll(memberIdAndRewardNames);
+    }
+
+    // 리워드 규칙 저장하기
+    public List<RewardRule> saveRewardRules(List<RewardRule> rewardRuleList) {
+        return rewardRuleRepository.saveAll(rewardRuleList);
+    }
+
 }
@@ -4,9 +4,8 @@ import com.example.namoldak.domain.*;
 import com.example.namoldak.repository.*;
 import com.example.namoldak.util.GlobalResponse.CustomException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
 import java.util.List;
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.*;
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.NOT_EXIST_ROOMS;
@@ -21,6 +20,7 @@ public class GameQuery {
     private final GameRoomAttendeeRepository gameRoomAttendeeRepository;
     private final GameRoomRepository gameRoomRepository;
     private final RewardReposiroty rewardReposiroty;
+    private final RewardRuleRepository rewardRuleRepository;
 
     //////////////TODO GameRoom 관련
     // 게임룸 Id로 객체 찾아오기
@@ -29,28 +29,10 @@ public class GameQuery {
                 ()-> new CustomException(NOT_EXIST_ROOMS)
         );
     }
-    public GameRoom findGameRoomByRoomIdLock(Long roomId) {
-        return gameRoomRepository.findByGameRoomId2(roomId).orElseThrow(
-                ()-> new CustomException(NOT_EXIST_ROOMS)
-        );
-    }
 
-    // 페이징 처리해서 모든 게임방 갖고 오기
-    public Page<GameRoom> findGameRoomByPageable(Pageable pageable) {
-        Page<GameRoom> gameRoomPage = gameRoomRepository.findAll(pageable);
-        return gameRoomPage;
-    }
-
-    // 특정 키워드로 검색해서 게임방 가져오기
-    public Page<GameRoom> findGameRoomByContainingKeyword(Pageable pageable, String keyword) {
-        Page<GameRoom> gameRoomPage = gameRoomRepository.findByGameRoomNameContaining(pageable, keyword);
-        return gameRoomPage;
-    }
-
-    // 게임방 리스트 형식으로 갖고 오기
-    public List<GameRoom> findAllGameRoomList() {
-        List<GameRoom> gameRoomList = gameRoomRepository.findAll();
-        return gameRoomList;
+    // 모든 게임방 갖고 오기 (로비 스냅샷 적재용)
+    public List<GameRoom> findAllGameRoom() {
+        return gameRoomRepository.findAll();
     }
 
     //////////////TODO GameRoomAttendee 관련
@@ -71,6 +53,14 @@ public class GameQuery {
         return gameRoomAttendeeRepository.findByGameRoom_GameRoomId(roomId);
     }
 
+    // 여러 게임룸 Id로 참가자와 멤버 정보를 한 번에 찾아오기
+    public List<GameRoomAttendee> findAttendeeWithMemberByRoomIds(List<Long> roomIdList) {
+        if (roomIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return gameRoomAttendeeRepository.findAllWithMemberByGameRoomIds(roomIdList);
+    }
+
     // 멤버 Id로 참가자 객체 가져오기
     public GameRoomAttendee findAttendeeByMemberId(Long memberId) {
         return gameRoomAttendeeRepository.findByMember_Id(memberId).orElseThrow(
@@ -86,17 +76,16 @@ public class GameQuery {
         );
     }
 
-    //////////////TODO 댓글 관련
-    // 키워드 랜덤으로 4개 가지고 오기
-    public List<Keyword> findTop4KeywordByCategory(String category) {
-        List<Keyword> keywordList = keywordRepository.findTop4ByCategory(category);
-        return keywordList;
+    //////////////TODO 키워드 관련
+    // 모든 키워드 가지고 오기 (키워드 덱 적재용)
+    public List<Keyword> findAllKeyword() {
+        return keywordRepository.findAll();
     }
 
-    // 키워드 랜덤으로 3개 가지고 오기
-    public List<Keyword> findTop3KeywordByCategory(String category) {
-        List<Keyword> keywordList = keywordRepository.findTop3ByCategory(category);
-        return keywordList;
+    // 키워드 테이블 상태 (개수:최대 Id:카테고리 + 단어 CRC 합)
+    public String findKeywordSignature() {
+        Object[] signature = keywordRepository.findSignature().get(0);
+        return signature[0] + ":" + signature[1] + ":" + signature[2];
     }
 
     //////////////TODO Reward 관련
@@ -104,4 +93,9 @@ public class GameQuery {
         List<Reward> rewardList = rewardReposiroty.findByMember(member);
         return rewardList;
     }
+
+    // 리워드 규칙 전체 가지고 오기
+    public List<RewardRule> findAllRewardRule() {
+        return rewardRuleRepository.findAll();
+    }
 }
@@ -2,12 +2,17 @@ package com.example.namoldak.domainModel;
 
 import com.example.namoldak.domain.ImageFile;
 import com.example.namoldak.domain.Member;
+import com.example.namoldak.domain.MemberCounter;
 import com.example.namoldak.repository.*;
 import com.example.namoldak.util.s3.AwsS3Uploader;
+import com.example.namoldak.util.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
+import static com.example.namoldak.util.transaction.TransactionHooks.afterCommit;
+
 // 기능 : 회원 도메인 관련 DB CUD 관리
 @Service
 @RequiredArgsConstructor
@@ -19,6 +24,11 @@ public class MemberCommand {
     private final GameRoomAttendeeRepository gameRoomAttendeeRepository;
     private final AwsS3Uploader awsS3Uploader;
     private final RewardReposiroty rewardReposiroty;
+    private final RoomAdmissionRepository roomAdmissionRepository;
+    private final MemberCounterRepository memberCounterRepository;
+    private final RewardCacheRepository rewardCacheRepository;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final PostCountRepository postCountRepository;
 
     // 멤버 객체로 데이터 삭제하기
     public void deleteMember(Member member) {
@@ -30,14 +40,25 @@ public class MemberCommand {
         memberRepository.save(member);
     }
 
+    // 멤버 활동 기록 카운터 1 증가 (엔티티를 저장하지 않고 증가 UPDATE 한 번)
+    public void increaseCounter(Member member, MemberCounter counter) {
+        memberCounterRepository.increment(member.getId(), counter, 1L);
+    }
+
     // 회원탈퇴하며 모든 정보를 정리하기
+    @Transactional
     public void removeMemberInfo(Member member) {
         if(commentRepository.existsByMember(member)){
+            // 지워지는 댓글에 달린 다른 사람의 대댓글도 함께 지워지므로 게시글 댓글 수는 다시 셈
+            List<Long> postIds = commentRepository.findPostIdsByMember(member);
             commentRepository.deleteAllByMember(member);
+            postRepository.recountCommentCount(postIds);
         }
         // 게임룸 참여 여부 확인
         if(gameRoomAttendeeRepository.existsByMember(member)){
             gameRoomAttendeeRepository.deleteAllByMember(member);
+            // 메모리의 게임룸 입장 정원에서도 자리 반납
+            afterCommit(() -> roomAdmissionRepository.releaseMember(member.getId()));
         }
         // 이미지파일 여부 확인
         if(imageFileRepository.existsByMember(member)){
@@ -54,12 +75,16 @@ public class MemberCommand {
         // 글 여부 확인
         if(postRepository.existsByMember(member)){
             postRepository.deleteAllByMember(member);
+            afterCommit(postCountRepository::clear);
         }
         // 리워드 여부 확인
         if(rewardReposiroty.existsByMember(member)){
             rewardReposiroty.deleteAllByMember(member);
+            afterCommit(() -> rewardCacheRepository.invalidate(member.getId()));
         }
         // 회원 삭제
         deleteMember(member);
+        // 캐시된 인증 정보 제거
+        afterCommit(() -> userDetailsService.evict(member.getEmail()));
     }
 }
@@ -3,40 +3,57 @@ package com.example.namoldak.domainModel;
 import com.example.namoldak.domain.Comment;
 import com.example.namoldak.domain.Post;
 import com.example.namoldak.repository.CommentRepository;
+import com.example.namoldak.repository.PostCountRepository;
 import com.example.namoldak.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+import static com.example.namoldak.util.transaction.TransactionHooks.afterCommit;
+
 // 기능 : 포스트 도메인 관련 DB CUD 관리
 @Service
 @RequiredArgsConstructor
 public class PostCommand {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final PostCountRepository postCountRepository;
 
     //////////////TODO 포스트 관련
     // 포스트 저장하기
     public Post savePost(Post post){
+        boolean isNew = post.getId() == null;
         postRepository.save(post);
+        if (isNew) {
+            afterCommit(() -> postCountRepository.increase(post.getCategory()));
+        }
         return post;
     }
 
     // 포스트 삭제하기
-    public void deletePost(Long id) {
-        postRepository.deleteById(id);
+    public void deletePost(Post post) {
+        postRepository.delete(post);
+        afterCommit(() -> postCountRepository.decrease(post.getCategory()));
+    }
+
+    // 댓글 수 컬럼이 생기기 전의 게시글 댓글 수 채우기
+    public int backfillCommentCount() {
+        return postRepository.backfillCommentCount();
     }
 
     //////////////TODO 댓글 관련
-    // 댓글 저장
+    // 댓글 저장 (게시글의 댓글 수도 함께 +1)
     public void saveComment(Comment comment) {
         commentRepository.save(comment);
+        postRepository.addCommentCount(comment.getPost().getId(), 1);
     }
 
-    // 댓글 삭제
+    // 댓글 삭제 (함께 지워지는 대댓글까지 게시글의 댓글 수에서 뺌)
     public void deleteComment(Comment comment) {
+        int deletedCnt = comment.countWithReplies();
         commentRepository.delete(comment);
+        postRepository.addCommentCount(comment.getPost().getId(), -deletedCnt);
     }
 
 }
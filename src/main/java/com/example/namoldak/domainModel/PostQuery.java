@@ -3,14 +3,22 @@ package com.example.namoldak.domainModel;
 import com.example.namoldak.domain.Comment;
 import com.example.namoldak.domain.Member;
 import com.example.namoldak.domain.Post;
+import com.example.namoldak.dto.ResponseDto.CommentTreeResponseDto;
+import com.example.namoldak.dto.ResponseDto.PostResponseDto;
 import com.example.namoldak.repository.CommentRepository;
+import com.example.namoldak.repository.PostCountRepository;
 import com.example.namoldak.repository.PostRepository;
 import com.example.namoldak.util.GlobalResponse.CustomException;
 import com.example.namoldak.util.GlobalResponse.code.StatusCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 // 기능 : 포스트 도메인 관련 DB Read 관리
@@ -19,6 +27,7 @@ import java.util.List;
 public class PostQuery {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final PostCountRepository postCountRepository;
 
     //////////////TODO 포스트 관련
     // 포스트 ID로 포스트 찾아오기
@@ -29,33 +38,35 @@ public class PostQuery {
         return post;
     }
 
-    // 카테고리별 모든 포스트 불러오기
-    public List<Post> findAllByCategory(String category) {
-        List<Post> posts = postRepository.findAllByCategory(category);
-        return posts;
+    // 카테고리별 포스트 수 (DB에서 직접 세지 않고 메모리의 게시글 수 사용)
+    public long countByCategory(String category) {
+        return postCountRepository.findOrLoad(category, () -> postRepository.countByCategory(category));
     }
 
-    // 유저 본인이 쓴 피드백만 불러오기
-    public List<Post> findAllByMemberAndCategory(Member member, String category) {
-        List<Post> posts = postRepository.findAllByMemberAndCategory(member, category);
-        return posts;
+    // 페이징 처리한 자유게시판 불러오기 (전체 수는 메모리의 게시글 수를 사용하므로 count 쿼리 없음)
+    public Page<PostResponseDto> findAllByCategory(Pageable pageable, String category){
+        Slice<PostResponseDto> postSlice = postRepository.findResponseByCategory(pageable, category);
+        return new PageImpl<>(postSlice.getContent(), pageable, countByCategory(category));
     }
 
-    // 페이징 처리한 자유게시판 불러오기
-    public Page<Post> findAllByCategory(Pageable pageable, String category){
-        Page<Post> postList = postRepository.findAllByCategory(pageable, category);
-        return postList;
+    // 커서 이후의 게시글 limit 개 불러오기 (커서가 없으면 처음부터, count 쿼리 없음)
+    public List<PostResponseDto> findCursorByCategory(String category, LocalDateTime createdAt, Long id, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (createdAt == null || id == null) {
+            return postRepository.findFirstCursorByCategory(pageable, category);
+        }
+        return postRepository.findNextCursorByCategory(pageable, category, createdAt, id);
     }
 
     // 페이징 처리한 내가쓴피드백 불러오기
-    public Page<Post> findAllByMemberAndCategoryOrderByCreatedAtDesc(Pageable pageable, Member member, String category){
-        Page<Post> postList = postRepository.findAllByMemberAndCategoryOrderByCreatedAtDesc(pageable, member, category);
+    public Page<PostResponseDto> findAllByMemberAndCategoryOrderByCreatedAtDesc(Pageable pageable, Member member, String category){
+        Page<PostResponseDto> postList = postRepository.findResponseByMemberAndCategory(pageable, member, category);
         return postList;
     }
 
     // 게시글 키워드 검색
-    public Page<Post> findByKeyword(Pageable pageable, String category, String keyword) {
-        Page<Post> posts = postRepository.findAllByCategoryContainingAndTitleContaining(pageable, category, keyword);
+    public Page<PostResponseDto> findByKeyword(Pageable pageable, String category, String keyword) {
+        Page<PostResponseDto> posts = postRepository.findResponseByKeyword(pageable, category, keyword);
         return posts;
     }
 
@@ -67,4 +78,28 @@ public class PostQuery {
         );
         return comment;
     }
+
+    // 댓글 트리의 최상위 댓글 한 페이지 불러오기
+    public Page<CommentTreeResponseDto> findRootCommentTree(Long postId, Pageable pageable) {
+        return commentRepository.findRootTreeByPostId(pageable, postId);
+    }
+
+    // 부모 댓글들의 바로 아래 대댓글을 limit 개까지 불러오기
+    public List<CommentTreeResponseDto> findReplyTree(Collection<Long> parentIds, int limit) {
+        return commentRepository.findReplyTreeByParentIds(PageRequest.of(0, limit), parentIds);
+    }
+
+    // 부모 댓글들에 대댓글이 있는지
+    public boolean existsReply(Collection<Long> parentIds) {
+        return commentRepository.existsByParent_IdIn(parentIds);
+    }
+
+    // 커서 이후의 댓글 limit 개 불러오기 (커서가 없으면 처음부터, count 쿼리 없음)
+    public List<Comment> findCommentCursorByPostId(Long postId, LocalDateTime createdAt, Long id, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (createdAt == null || id == null) {
+            return commentRepository.findFirstCursorByPostId(pageable, postId);
+        }
+        return commentRepository.findNextCursorByPostId(pageable, postId, createdAt, id);
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.namoldak.dto.ResponseDto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 기능 : 대댓글을 포함한 댓글 트리 응답 Dto (CommentRepository 의 조회 쿼리에서 바로 생성)
+@Getter
+public class CommentTreeResponseDto {
+    private Long id;
+    @JsonIgnore
+    private Long parentId;                                                 // 트리 조립용 부모 댓글 Id (최상위 댓글은 null)
+    private String nickname;
+    private String comment;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime createdAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime modifiedAt;
+    private List<CommentTreeResponseDto> replyList = new ArrayList<>();
+
+    public CommentTreeResponseDto(Long id, String nickname, String comment, LocalDateTime createdAt, LocalDateTime modifiedAt) { // 최상위 댓글
+        this(id, null, nickname, comment, createdAt, modifiedAt);
+    }
+
+    public CommentTreeResponseDto(Long id, Long parentId, String nickname, String comment, LocalDateTime createdAt, LocalDateTime modifiedAt) { // 대댓글
+        this.id          = id;
+        this.parentId    = parentId;
+        this.nickname    = nickname;
+        this.comment     = comment;
+        this.createdAt   = createdAt;
+        this.modifiedAt  = modifiedAt;
+    }
+
+    public void addReply(CommentTreeResponseDto reply) {
+        replyList.add(reply);
+    }
+}
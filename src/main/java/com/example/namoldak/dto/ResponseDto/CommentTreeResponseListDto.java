@@ -0,0 +1,19 @@
+package com.example.namoldak.dto.ResponseDto;
+
+import lombok.Getter;
+import java.util.List;
+
+// 기능 : 댓글 트리 List 응답 Dto
+@Getter
+public class CommentTreeResponseListDto {
+
+    private int totalPage;
+    private boolean truncated;      // 깊이 / 개수 제한으로 일부 대댓글이 빠졌는지
+    private List<CommentTreeResponseDto> commentTreeList;
+
+    public CommentTreeResponseListDto(int totalPage, boolean truncated, List<CommentTreeResponseDto> commentTreeList) {
+        this.totalPage       = totalPage;
+        this.truncated       = truncated;
+        this.commentTreeList = commentTreeList;
+    }
+}
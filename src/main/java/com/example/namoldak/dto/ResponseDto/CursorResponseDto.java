@@ -0,0 +1,43 @@
+package com.example.namoldak.dto.ResponseDto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+// 기능 : 커서(마지막으로 본 작성 시간, Id) 기반 무한 스크롤 응답 Dto
+// 전체 수를 세지 않고 size + 1 개를 조회해서 다음 페이지가 있는지만 확인
+@Getter
+public class CursorResponseDto<T> {
+    public static final int MAX_SIZE = 50;
+
+    private List<T> contentList;
+    private boolean hasNext;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
+    private LocalDateTime nextCreatedAt;    // 다음 요청에 넘길 커서 (다음 페이지가 없으면 null)
+    private Long nextId;
+
+    private CursorResponseDto(List<T> contentList, boolean hasNext, LocalDateTime nextCreatedAt, Long nextId) {
+        this.contentList   = contentList;
+        this.hasNext       = hasNext;
+        this.nextCreatedAt = nextCreatedAt;
+        this.nextId        = nextId;
+    }
+
+    // 한 번에 조회할 개수 (1 ~ MAX_SIZE)
+    public static int limitSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // size + 1 개까지 조회한 결과로 응답 생성
+    public static <T> CursorResponseDto<T> of(List<T> fetched, int size,
+                                              Function<T, LocalDateTime> createdAtOf, Function<T, Long> idOf) {
+        if (fetched.size() <= size) {
+            return new CursorResponseDto<>(fetched, false, null, null);
+        }
+        List<T> contentList = fetched.subList(0, size);
+        T last = contentList.get(size - 1);
+        return new CursorResponseDto<>(contentList, true, createdAtOf.apply(last), idOf.apply(last));
+    }
+}
@@ -8,9 +8,16 @@ import java.util.List;
 public class GameRoomResponseListDto {
     private int totalPage;
     List<GameRoomResponseDto> gameRoomResponseDtoList;
+    private long version;   // 로비 스냅샷 버전 (/sub/lobby 변경분과 비교용)
 
     public GameRoomResponseListDto(int totalPage, List<GameRoomResponseDto> gameRoomResponseDtoList) {
         this.totalPage               = totalPage;
         this.gameRoomResponseDtoList = gameRoomResponseDtoList;
     }
+
+    public GameRoomResponseListDto(int totalPage, List<GameRoomResponseDto> gameRoomResponseDtoList, long version) {
+        this.totalPage               = totalPage;
+        this.gameRoomResponseDtoList = gameRoomResponseDtoList;
+        this.version                 = version;
+    }
 }
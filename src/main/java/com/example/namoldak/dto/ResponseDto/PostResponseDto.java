@@ -33,7 +33,7 @@ public class PostResponseDto {
         this.id           =     post.getId();
         this.title        =     post.getTitle();
         this.content      =     post.getContent();
-        this.cmtCnt       =     post.getCommentList().size();
+        this.cmtCnt       =     post.getCommentCount();
         this.nickname     =     post.getMember().getNickname();
         this.category     =     post.getCategory();
         this.createdAt    =     post.getCreatedAt();
@@ -41,14 +41,27 @@ public class PostResponseDto {
         this.imageList    =     imageFileList;
     }
 
-    public PostResponseDto(Post post) { // 게시글 전체 조회, 카테고리별 조회
+    public PostResponseDto(Post post) { // 게시글 수정
         this.id           =     post.getId();
         this.title        =     post.getTitle();
         this.content      =     post.getContent();
-        this.cmtCnt       =     post.getCommentList().size();
+        this.cmtCnt       =     post.getCommentCount();
         this.nickname     =     post.getMember().getNickname();
         this.category     =     post.getCategory();
         this.createdAt    =     post.getCreatedAt();
         this.modifiedAt   =     post.getModifiedAt();
     }
+
+    // 게시글 전체 조회, 카테고리별 조회 (PostRepository 의 조회 쿼리에서 바로 생성)
+    public PostResponseDto(Long id, String title, String content, String nickname, int cmtCnt, String category,
+                           LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id           =     id;
+        this.title        =     title;
+        this.content      =     content;
+        this.nickname     =     nickname;
+        this.cmtCnt       =     cmtCnt;
+        this.category     =     category;
+        this.createdAt    =     createdAt;
+        this.modifiedAt   =     modifiedAt;
+    }
 }
@@ -10,6 +10,10 @@ import java.util.List;
 public class RewardResponseDto {
     List<String> rewardList = new ArrayList<>();
 
+    public RewardResponseDto(List<String> rewardList) {
+        this.rewardList = rewardList;
+    }
+
     public void setRewardList(String reward){
         this.rewardList.add(reward);
     }
@@ -2,18 +2,44 @@ package com.example.namoldak.repository;
 
 import com.example.namoldak.domain.Comment;
 import com.example.namoldak.domain.Member;
+import com.example.namoldak.dto.ResponseDto.CommentTreeResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 // 기능 : 댓글 정보 레포
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findAllByPost_IdOrderByCreatedAtDesc(Pageable pageable, Long id);
+    @Query("select c from Comment c where c.post.id = :postId order by c.createdAt desc, c.id desc")
+    List<Comment> findFirstCursorByPostId(Pageable pageable, @Param("postId") Long postId);  // 커서 페이징 첫 페이지
+    @Query("select c from Comment c where c.post.id = :postId "
+            + "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) order by c.createdAt desc, c.id desc")
+    List<Comment> findNextCursorByPostId(Pageable pageable, @Param("postId") Long postId,
+                                         @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id);  // 커서 이후 페이지
+    // 댓글 트리 조회용 select 절 (엔티티 대신 Dto 로 바로 조회, 부모 댓글은 외래키 값만 읽음)
+    String TREE_SELECT = "select new com.example.namoldak.dto.ResponseDto.CommentTreeResponseDto(";
+
+    @Query(value = TREE_SELECT + "c.id, c.nickname, c.comment, c.createdAt, c.modifiedAt) from Comment c "
+            + "where c.post.id = :postId and c.parent is null order by c.createdAt desc, c.id desc",
+            countQuery = "select count(c) from Comment c where c.post.id = :postId and c.parent is null")
+    Page<CommentTreeResponseDto> findRootTreeByPostId(Pageable pageable, @Param("postId") Long postId);  // 최상위 댓글 한 페이지
+    @Query(TREE_SELECT + "c.id, c.parent.id, c.nickname, c.comment, c.createdAt, c.modifiedAt) from Comment c "
+            + "where c.parent.id in :parentIds order by c.createdAt asc, c.id asc")
+    List<CommentTreeResponseDto> findReplyTreeByParentIds(Pageable pageable, @Param("parentIds") Collection<Long> parentIds);  // 한 단계 아래 대댓글
+    boolean existsByParent_IdIn(Collection<Long> parentIds);
+
     @Transactional
     void deleteAllByMember(Member member);
     boolean existsByMember(Member member);
+    @Query("select distinct c.post.id from Comment c where c.member = :member")
+    List<Long> findPostIdsByMember(@Param("member") Member member);  // 해당 멤버가 댓글을 단 게시글 Id
 }
 
@@ -4,6 +4,8 @@ import com.example.namoldak.domain.GameRoom;
 import com.example.namoldak.domain.GameRoomAttendee;
 import com.example.namoldak.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import javax.transaction.Transactional;
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,8 @@ public interface GameRoomAttendeeRepository extends JpaRepository<GameRoomAttend
     Optional<GameRoomAttendee> findByMember(Member member); // 멤버 객체로 참가자 정보 조회
     Optional<GameRoomAttendee> findByMember_Id(Long memberId); // 멤버 ID로 참가자 정보 조회
     List<GameRoomAttendee> findByGameRoom_GameRoomId(Long gameRoomId); // 게임룸 ID로 안에 있는 멤버 전부 조회
+    @Query("select a from GameRoomAttendee a join fetch a.member where a.gameRoom.gameRoomId in :gameRoomIds order by a.gameRoomMemberId")
+    List<GameRoomAttendee> findAllWithMemberByGameRoomIds(@Param("gameRoomIds") List<Long> gameRoomIds); // 여러 게임룸의 참가자를 멤버 정보와 함께 한 번에 조회
     @Transactional
     void deleteAllByMember(Member member);  // 멤버 객체로 삭제
     boolean existsByMember(Member member);  // 멤버 존재 여부 확인
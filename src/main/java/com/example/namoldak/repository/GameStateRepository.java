@@ -0,0 +1,28 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.GameState;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 기능 : 진행 중인 게임 상태를 게임룸 Id 별로 메모리에 저장, 관리
+@Component
+public class GameStateRepository {
+    private final Map<Long, GameState> gameStates = new ConcurrentHashMap<>();
+
+    // 게임 상태 저장
+    public void save(GameState gameState) {
+        gameStates.put(gameState.getRoomId(), gameState);
+    }
+
+    // 게임룸 Id로 게임 상태 조회
+    public Optional<GameState> findByRoomId(Long roomId) {
+        return Optional.ofNullable(gameStates.get(roomId));
+    }
+
+    // 게임룸 Id로 게임 상태 삭제
+    public void deleteByRoomId(Long roomId) {
+        gameStates.remove(roomId);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.Keyword;
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import org.springframework.stereotype.Component;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.NOT_ENOUGH_KEYWORD;
+
+// 기능 : 카테고리별 키워드 덱을 메모리에 저장, 관리
+// 덱은 한 번 만들면 바꾸지 않고 통째로 교체하므로 게임 시작 시 잠금 없이 뽑을 수 있다
+@Component
+public class KeywordDeckRepository {
+    private static final String[] EMPTY_DECK = new String[0];
+
+    private volatile Map<String, String[]> decks = Collections.emptyMap();
+    private volatile String signature;      // 덱을 만들 때의 키워드 테이블 상태 (변경 감지용)
+
+    public boolean isLoaded() {
+        return signature != null;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    // 전체 키워드로 덱 교체
+    public void replace(List<Keyword> keywordList, String signature) {
+        Map<String, List<String>> wordsByCategory = new HashMap<>();
+        for (Keyword keyword : keywordList) {
+            wordsByCategory.computeIfAbsent(keyword.getCategory(), category -> new ArrayList<>()).add(keyword.getWord());
+        }
+        Map<String, String[]> newDecks = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : wordsByCategory.entrySet()) {
+            newDecks.put(entry.getKey(), entry.getValue().toArray(EMPTY_DECK));
+        }
+        this.decks     = Collections.unmodifiableMap(newDecks);
+        this.signature = signature;
+    }
+
+    // 카테고리에서 서로 다른 키워드 size 개 뽑기
+    // 부분 Fisher–Yates : 덱을 복사해 섞는 대신 바뀐 자리만 Map 에 기록하므로 덱 크기와 상관없이 O(size)
+    public List<String> draw(String category, int size) {
+        String[] deck = decks.getOrDefault(category, EMPTY_DECK);
+        if (size > deck.length) {
+            throw new CustomException(NOT_ENOUGH_KEYWORD);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Integer, Integer> swapped = new HashMap<>();
+        List<String> words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int j = random.nextInt(i, deck.length);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            words.add(deck[picked]);
+        }
+        return words;
+    }
+}
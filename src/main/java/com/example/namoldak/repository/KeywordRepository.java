@@ -3,17 +3,14 @@ package com.example.namoldak.repository;
 import com.example.namoldak.domain.Keyword;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 // 기능: 게임 시작시 주어지는 랜덤 키워드 레포
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 
-    // 랜덤 키워드 4인일 경우
-    @Query(value = "select * from keyword k where k.category = :category order by rand() limit 4", nativeQuery = true)
-    List<Keyword> findTop4ByCategory(@Param("category") String category);
-
-    // 랜덤 키워드 3인일 경우
-    @Query(value = "select * from keyword k where k.category = :category order by rand() limit 3", nativeQuery = true)
-    List<Keyword> findTop3ByCategory(@Param("category") String category);
+    // 키워드 테이블 변경 감지용 (개수, 최대 Id, 카테고리 + 단어 CRC 합)
+    // 길이가 같은 단어로 고치거나 카테고리만 바꿔도 CRC 가 달라지므로 감지됨 (구분자로 카테고리와 단어 경계를 고정)
+    @Query(value = "select count(*), coalesce(max(keyword_id), 0), coalesce(sum(crc32(concat(category, char(31), word))), 0) from keyword",
+            nativeQuery = true)
+    List<Object[]> findSignature();
 }
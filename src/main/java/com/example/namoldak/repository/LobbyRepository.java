@@ -0,0 +1,156 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.LobbyMessage;
+import com.example.namoldak.dto.ResponseDto.GameRoomResponseDto;
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import com.example.namoldak.util.search.NgramIndex;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.UnaryOperator;
+
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.BAD_REQUEST;
+
+// 기능 : 로비(게임룸 목록) 스냅샷을 메모리에서 관리
+// 변경은 한 번에 하나씩 (synchronized) 적용하고 version 을 올리며, 조회는 잠금 없이 스냅샷에서 바로 읽는다
+@Component
+public class LobbyRepository {
+    // 최신 방이 먼저 오도록 게임룸 Id 내림차순 정렬 (DTO는 바꾸지 않고 통째로 교체)
+    private volatile ConcurrentNavigableMap<Long, GameRoomResponseDto> rooms = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    // 게임룸 이름 검색용 색인 (방 이름은 바뀌지 않으므로 생성/삭제 때만 갱신)
+    private volatile NgramIndex roomNameIndex = new NgramIndex();
+    // ConcurrentSkipListMap.size()는 전체를 세기 때문에 방 개수는 따로 관리
+    private volatile int roomCnt;
+    private volatile long version;
+    private volatile boolean loaded;
+
+    // 스냅샷에서 지원하는 정렬 기준 (GameRoom 의 게임룸 Id)
+    public static final String SORT_PROPERTY = "gameRoomId";
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // 페이지 조회 (게임룸 Id 정렬만 지원, 정렬 조건이 없으면 최신 방 먼저)
+    public Page<GameRoomResponseDto> findAll(Pageable pageable) {
+        boolean ascending = isAscending(pageable.getSort());
+        ConcurrentNavigableMap<Long, GameRoomResponseDto> snapshot = rooms;
+        List<GameRoomResponseDto> content = new ArrayList<>(pageable.getPageSize());
+        Iterator<GameRoomResponseDto> iterator = ascending ? snapshot.descendingMap().values().iterator() : snapshot.values().iterator();
+        long skip = pageable.getOffset();
+        while (iterator.hasNext() && content.size() < pageable.getPageSize()) {
+            GameRoomResponseDto room = iterator.next();
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            content.add(room);
+        }
+        return new PageImpl<>(content, pageable, roomCnt);
+    }
+
+    // 게임룸 이름 검색 + 페이지 조회 (게임룸 Id 정렬만 지원, 정렬 조건이 없으면 최신 방 먼저)
+    public Page<GameRoomResponseDto> search(String keyword, Pageable pageable) {
+        boolean ascending = isAscending(pageable.getSort());
+        List<Long> matchedIds = roomNameIndex.search(keyword);   // 게임룸 Id 내림차순
+        if (ascending) {
+            Collections.reverse(matchedIds);
+        }
+        List<GameRoomResponseDto> matchedRooms = new ArrayList<>();
+        for (Long roomId : matchedIds) {
+            GameRoomResponseDto room = rooms.get(roomId);
+            if (room != null) {
+                matchedRooms.add(room);
+            }
+        }
+        int start = (int) Math.min(pageable.getOffset(), matchedRooms.size());
+        int end = Math.min(start + pageable.getPageSize(), matchedRooms.size());
+        return new PageImpl<>(new ArrayList<>(matchedRooms.subList(start, end)), pageable, matchedRooms.size());
+    }
+
+    // 게임룸 Id 오름차순 정렬인지 (그 밖의 정렬 조건은 스냅샷에서 지원하지 않으므로 잘못된 요청)
+    private boolean isAscending(Sort sort) {
+        if (sort.isUnsorted()) {
+            return false;
+        }
+        Iterator<Sort.Order> orders = sort.iterator();
+        Sort.Order order = orders.next();
+        if (orders.hasNext() || !SORT_PROPERTY.equals(order.getProperty())) {
+            throw new CustomException(BAD_REQUEST);
+        }
+        return order.isAscending();
+    }
+
+    public Optional<GameRoomResponseDto> findById(Long roomId) {
+        return Optional.ofNullable(rooms.get(roomId));
+    }
+
+    // DB에서 읽어온 전체 목록으로 교체, 읽는 사이에 다른 변경이 끼어들었다면 (version 불일치) 교체하지 않음
+    public synchronized LobbyMessage replaceAll(List<GameRoomResponseDto> roomList, long expectedVersion, boolean force) {
+        if (!force && version != expectedVersion) {
+            return null;
+        }
+        ConcurrentNavigableMap<Long, GameRoomResponseDto> newRooms = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        NgramIndex newRoomNameIndex = new NgramIndex();
+        for (GameRoomResponseDto room : roomList) {
+            newRooms.put(room.getId(), room);
+            newRoomNameIndex.add(room.getId(), room.getRoomName());
+        }
+        rooms = newRooms;
+        roomNameIndex = newRoomNameIndex;
+        roomCnt = newRooms.size();
+        loaded = true;
+        return new LobbyMessage(LobbyMessage.MessageType.RESET, ++version, null, null);
+    }
+
+    // 스냅샷을 비우고 다음 조회 때 DB에서 다시 적재하도록 함
+    public synchronized void clear() {
+        rooms = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        roomNameIndex = new NgramIndex();
+        roomCnt = 0;
+        loaded = false;
+        version++;
+    }
+
+    // 게임룸 추가
+    public synchronized LobbyMessage save(GameRoomResponseDto room) {
+        if (rooms.put(room.getId(), room) == null) {
+            roomCnt++;
+            roomNameIndex.add(room.getId(), room.getRoomName());
+        }
+        return new LobbyMessage(LobbyMessage.MessageType.CREATE, ++version, room.getId(), room);
+    }
+
+    // 게임룸 정보 변경, 스냅샷에 없는 방이거나 바뀐 게 없다면 null
+    public synchronized LobbyMessage update(Long roomId, UnaryOperator<GameRoomResponseDto> updater) {
+        GameRoomResponseDto room = rooms.get(roomId);
+        if (room == null) {
+            return null;
+        }
+        GameRoomResponseDto updatedRoom = updater.apply(room);
+        if (updatedRoom == room) {
+            return null;
+        }
+        rooms.put(roomId, updatedRoom);
+        return new LobbyMessage(LobbyMessage.MessageType.UPDATE, ++version, roomId, updatedRoom);
+    }
+
+    // 게임룸 삭제, 스냅샷에 없는 방이라면 null
+    public synchronized LobbyMessage delete(Long roomId) {
+        if (rooms.remove(roomId) == null) {
+            return null;
+        }
+        roomCnt--;
+        roomNameIndex.remove(roomId);
+        return new LobbyMessage(LobbyMessage.MessageType.DELETE, ++version, roomId, null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.MemberCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.*;
+
+// 기능 : 멤버 활동 기록 카운터를 한 문장의 증가 UPDATE 로 반영 (엔티티를 읽어서 더한 뒤 저장하지 않으므로 동시에 올려도 유실 없음)
+// 같은 멤버의 카운터 여러 개는 하나의 UPDATE 로 합쳐서 실행
+@Repository
+@RequiredArgsConstructor
+public class MemberCounterRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 카운터 하나 증가
+    public int increment(Long memberId, MemberCounter counter, long amount) {
+        return increment(memberId, Collections.singletonMap(counter, amount));
+    }
+
+    // 같은 멤버의 카운터 여러 개를 한 번에 증가
+    public int increment(Long memberId, Map<MemberCounter, Long> deltas) {
+        EnumMap<MemberCounter, Long> sorted = new EnumMap<>(deltas);
+        List<Object> args = new ArrayList<>(sorted.values());
+        args.add(memberId);
+        return jdbcTemplate.update(buildUpdateSql(sorted.keySet()), args.toArray());
+    }
+
+    // 여러 멤버의 증가분을 반영 (증가하는 카운터 조합이 같은 멤버끼리 묶어서 batch 실행)
+    public void incrementAll(Map<Long, ? extends Map<MemberCounter, Long>> deltasByMemberId) {
+        Map<Set<MemberCounter>, List<Object[]>> argsByCounters = new HashMap<>();
+        for (Map.Entry<Long, ? extends Map<MemberCounter, Long>> entry : deltasByMemberId.entrySet()) {
+            EnumMap<MemberCounter, Long> sorted = new EnumMap<>(entry.getValue());
+            Object[] args = new Object[sorted.size() + 1];
+            int i = 0;
+            for (Long amount : sorted.values()) {
+                args[i++] = amount;
+            }
+            args[i] = entry.getKey();
+            argsByCounters.computeIfAbsent(EnumSet.copyOf(sorted.keySet()), counters -> new ArrayList<>()).add(args);
+        }
+        for (Map.Entry<Set<MemberCounter>, List<Object[]>> entry : argsByCounters.entrySet()) {
+            jdbcTemplate.batchUpdate(buildUpdateSql(entry.getKey()), entry.getValue());
+        }
+    }
+
+    // update member set a = a + ?, b = b + ? where id = ? (컬럼 이름은 enum 에 정해진 값만 사용)
+    static String buildUpdateSql(Set<MemberCounter> counters) {
+        StringJoiner assignments = new StringJoiner(", ", "update member set ", " where id = ?");
+        for (MemberCounter counter : counters) {
+            assignments.add(counter.getColumn() + " = " + counter.getColumn() + " + ?");
+        }
+        return assignments.toString();
+    }
+}
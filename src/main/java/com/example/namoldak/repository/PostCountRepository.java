@@ -0,0 +1,57 @@
+package com.example.namoldak.repository;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 기능 : 카테고리별 게시글 수를 메모리에서 관리 (게시판 조회마다 count 쿼리를 돌리지 않도록)
+// 처음 조회할 때 DB에서 세고 이후에는 작성 / 삭제 때 더하고 빼며, 다른 서버에서 바뀐 수는 만료 후 다시 세면서 맞춰짐
+@Component
+public class PostCountRepository {
+    private final Cache<String, AtomicLong> postCntByCategory;
+
+    public PostCountRepository(@Value("${namoldak.post.count-resync-seconds:60}") long resyncSeconds) {
+        this.postCntByCategory = CacheBuilder.newBuilder()
+                .expireAfterWrite(resyncSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    // 카테고리의 게시글 수 (없으면 loader 로 세서 저장)
+    public long findOrLoad(String category, LongSupplier loader) {
+        try {
+            return postCntByCategory.get(category, () -> new AtomicLong(loader.getAsLong())).get();
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 게시글 작성
+    public void increase(String category) {
+        AtomicLong postCnt = postCntByCategory.getIfPresent(category);
+        if (postCnt != null) {
+            postCnt.incrementAndGet();
+        }
+    }
+
+    // 게시글 삭제
+    public void decrease(String category) {
+        AtomicLong postCnt = postCntByCategory.getIfPresent(category);
+        if (postCnt != null) {
+            postCnt.decrementAndGet();
+        }
+    }
+
+    // 여러 카테고리의 게시글이 한 번에 지워졌을 때 (회원탈퇴) 모두 다시 세도록 비움
+    public void clear() {
+        postCntByCategory.invalidateAll();
+    }
+}
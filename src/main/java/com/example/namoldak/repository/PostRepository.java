@@ -2,19 +2,58 @@ package com.example.namoldak.repository;
 
 import com.example.namoldak.domain.Member;
 import com.example.namoldak.domain.Post;
+import com.example.namoldak.dto.ResponseDto.PostResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 // 기능 : 포스트 정보 레포
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findAllByCategory(Pageable pageable, String category);   // 카테고리 별 전체 조회 (페이징O)
-    Page<Post> findAllByMemberAndCategoryOrderByCreatedAtDesc(Pageable pageable, Member member, String category); // 카테고리별 자신이 쓴 글 조회
-    Page<Post> findAllByCategoryContainingAndTitleContaining(Pageable pageable, String category, String keyword); // 카테고리별 검색 조회
-    List<Post> findAllByMemberAndCategory(Member member, String category); // 내가 쓴 피드백 조회용
-    List<Post> findAllByCategory(String category);  //카테고리별 전체 조회 (페이징X)
+    // 게시판 목록 조회용 select 절 (엔티티 대신 Dto 로 바로 조회해서 댓글 / 작성자를 따로 불러오지 않음)
+    String POST_RESPONSE_SELECT = "select new com.example.namoldak.dto.ResponseDto.PostResponseDto("
+            + "p.id, p.title, p.content, m.nickname, p.commentCount, p.category, p.createdAt, p.modifiedAt) "
+            + "from Post p join p.member m ";
+
+    @Query(POST_RESPONSE_SELECT + "where p.category = :category")
+    Slice<PostResponseDto> findResponseByCategory(Pageable pageable, @Param("category") String category);  // 카테고리 별 전체 조회 (페이징O, count 쿼리X)
+    long countByCategory(String category);  // 카테고리별 게시글 수
+    @Query(POST_RESPONSE_SELECT + "where p.category = :category order by p.createdAt desc, p.id desc")
+    List<PostResponseDto> findFirstCursorByCategory(Pageable pageable, @Param("category") String category);  // 커서 페이징 첫 페이지
+    @Query(POST_RESPONSE_SELECT + "where p.category = :category "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) order by p.createdAt desc, p.id desc")
+    List<PostResponseDto> findNextCursorByCategory(Pageable pageable, @Param("category") String category,
+                                                   @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id);  // 커서 이후 페이지
+    @Query(value = POST_RESPONSE_SELECT + "where p.member = :member and p.category = :category order by p.createdAt desc",
+            countQuery = "select count(p) from Post p where p.member = :member and p.category = :category")
+    Page<PostResponseDto> findResponseByMemberAndCategory(Pageable pageable, @Param("member") Member member, @Param("category") String category); // 카테고리별 자신이 쓴 글 조회
+    @Query(value = POST_RESPONSE_SELECT + "where p.category like concat('%', :category, '%') and p.title like concat('%', :keyword, '%')",
+            countQuery = "select count(p) from Post p where p.category like concat('%', :category, '%') and p.title like concat('%', :keyword, '%')")
+    Page<PostResponseDto> findResponseByKeyword(Pageable pageable, @Param("category") String category, @Param("keyword") String keyword); // 카테고리별 검색 조회
+
+    // 댓글 수 변경 (읽고 쓰지 않고 한 번의 update 로 더하므로 동시에 댓글이 달려도 빠지지 않음)
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :amount where p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("amount") int amount);
+
+    // 댓글 수를 실제 댓글로 다시 셈 (댓글이 한꺼번에 지워졌을 때)
+    @Modifying
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p) where p.id in :postIds")
+    int recountCommentCount(@Param("postIds") Collection<Long> postIds);
+
+    // 댓글 수 컬럼이 생기기 전의 게시글 채우기 (댓글이 있는데 0 으로 남은 게시글만)
+    @Modifying
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p) "
+            + "where p.commentCount = 0 and exists (select c.id from Comment c where c.post = p)")
+    int backfillCommentCount();
+
     @Transactional
     void deleteAllByMember(Member member);  // 해당 멤버가 작성한 글 모두 삭제
     boolean existsByMember(Member member);  // 해당 멤버가 작성한 글 존재여부 확인
@@ -0,0 +1,112 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.util.cluster.ClusterEventBus;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// 기능 : 멤버별 리워드 이름 목록 캐시 (리워드는 게임이 끝날 때만 바뀌므로 지급, 회원탈퇴 때 해당 멤버만 무효화)
+// 최대 개수를 넘으면 오래 안 쓰인 멤버부터 제거, 무효화는 Redis pub/sub 으로 다른 서버의 캐시에도 전달
+// 적중 / 미스 / 제거 통계는 cache.* 지표 (cache=reward) 로 노출
+// 조회 중에 무효화되면 조회한 값은 이미 지난 값이므로 멤버 Id 별 세대 번호로 확인해서 다시 무효화
+@Component
+public class RewardCacheRepository {
+    private static final String INVALIDATE_TOPIC = "reward-cache";
+    // 세대 번호는 멤버 Id 를 나눠 담음 (같은 칸의 다른 멤버가 무효화되면 한 번 더 조회할 뿐)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ClusterEventBus clusterEventBus;
+    private final Cache<Long, List<String>> rewardNamesByMemberId;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public RewardCacheRepository(ClusterEventBus clusterEventBus,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${namoldak.reward.cache-size:10000}") long maximumSize,
+                                 @Value("${namoldak.reward.cache-expire-minutes:30}") long expireMinutes) {
+        this.clusterEventBus       = clusterEventBus;
+        this.rewardNamesByMemberId = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, rewardNamesByMemberId, "reward");
+    }
+
+    // 다른 서버에서 리워드를 받거나 탈퇴한 멤버의 캐시 무효화 (내용 : 멤버 Id 를 쉼표로 이은 것)
+    @PostConstruct
+    public void init() {
+        clusterEventBus.subscribe(INVALIDATE_TOPIC, this::receiveInvalidation);
+    }
+
+    // 캐시에 없을 때만 loader 로 조회해서 저장 (같은 멤버를 동시에 조회해도 loader 는 한 번만 실행)
+    public List<String> findOrLoad(Long memberId, Supplier<List<String>> loader) {
+        long generation = generations.get(stripe(memberId));
+        try {
+            List<String> rewardNames = rewardNamesByMemberId.get(memberId, () -> Collections.unmodifiableList(loader.get()));
+            // 조회하는 동안 무효화되었다면 (Guava 는 진행 중인 조회를 취소하지 않음) 저장된 지난 값을 지움
+            if (generations.get(stripe(memberId)) != generation) {
+                rewardNamesByMemberId.invalidate(memberId);
+            }
+            return rewardNames;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void invalidate(Long memberId) {
+        invalidateAll(Collections.singletonList(memberId));
+    }
+
+    public void invalidateAll(Iterable<Long> memberIds) {
+        invalidateLocally(memberIds);
+        StringJoiner payload = new StringJoiner(",");
+        for (Long memberId : memberIds) {
+            payload.add(String.valueOf(memberId));
+        }
+        if (payload.length() > 0) {
+            clusterEventBus.publish(INVALIDATE_TOPIC, payload.toString());
+        }
+    }
+
+    // 적중 / 미스 횟수 등 캐시 통계
+    public CacheStats getStats() {
+        return rewardNamesByMemberId.stats();
+    }
+
+    private void receiveInvalidation(String payload) {
+        List<Long> memberIds = new ArrayList<>();
+        for (String memberId : payload.split(",")) {
+            memberIds.add(Long.valueOf(memberId));
+        }
+        invalidateLocally(memberIds);
+    }
+
+    // 세대 번호를 먼저 올려서 진행 중인 조회가 끝난 뒤 스스로 다시 무효화하도록 함
+    private void invalidateLocally(Iterable<Long> memberIds) {
+        for (Long memberId : memberIds) {
+            generations.incrementAndGet(stripe(memberId));
+        }
+        rewardNamesByMemberId.invalidateAll(memberIds);
+    }
+
+    private static int stripe(Long memberId) {
+        return (int) (memberId & (GENERATION_STRIPES - 1));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.namoldak.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+// 기능 : 리워드 지급을 한 번의 batch insert 로 저장
+// (member_id, reward_name) 유니크 제약과 insert ignore 로 같은 지급이 다시 들어와도 한 번만 저장됨
+@Repository
+@RequiredArgsConstructor
+public class RewardGrantRepository {
+    private static final String INSERT_IGNORE_REWARD = "insert ignore into reward (member_id, reward_name) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // {멤버 Id, 리워드 이름} 목록 저장
+    public void insertIgnoreAll(List<Object[]> memberIdAndRewardNames) {
+        if (!memberIdAndRewardNames.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IGNORE_REWARD, memberIdAndRewardNames);
+        }
+    }
+}
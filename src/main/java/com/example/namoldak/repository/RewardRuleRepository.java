@@ -0,0 +1,8 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.RewardRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 기능 : 리워드 지급 규칙 레포
+public interface RewardRuleRepository extends JpaRepository<RewardRule, Long> {
+}
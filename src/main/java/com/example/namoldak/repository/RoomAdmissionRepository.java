@@ -0,0 +1,39 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.RoomAdmission;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 기능 : 게임룸별 입장 정원 정보를 메모리에 저장, 관리
+@Component
+public class RoomAdmissionRepository {
+    private final Map<Long, RoomAdmission> admissions = new ConcurrentHashMap<>();
+
+    // 게임룸의 입장 정원 정보 조회, 처음 찾는 방이라면 DB의 참가자 목록으로 만들어 둠
+    public RoomAdmission findOrLoad(Long roomId, Supplier<Collection<Long>> attendeeMemberIds) {
+        return admissions.computeIfAbsent(roomId, id -> new RoomAdmission(attendeeMemberIds.get()));
+    }
+
+    // 참가자 자리 반납
+    public void release(Long roomId, Long memberId) {
+        RoomAdmission admission = admissions.get(roomId);
+        if (admission != null) {
+            admission.release(memberId);
+        }
+    }
+
+    // 회원 탈퇴 등으로 참가 정보가 통째로 지워졌을 때 모든 방에서 자리 반납
+    public void releaseMember(Long memberId) {
+        for (RoomAdmission admission : admissions.values()) {
+            admission.release(memberId);
+        }
+    }
+
+    // 게임룸 삭제
+    public void deleteByRoomId(Long roomId) {
+        admissions.remove(roomId);
+    }
+}
@@ -8,26 +8,43 @@ import com.example.namoldak.domainModel.PostQuery;
 import com.example.namoldak.dto.RequestDto.CommentRequestDto;
 import com.example.namoldak.dto.ResponseDto.CommentResponseDto;
 import com.example.namoldak.dto.ResponseDto.CommentResponseListDto;
+import com.example.namoldak.dto.ResponseDto.CommentTreeResponseDto;
+import com.example.namoldak.dto.ResponseDto.CommentTreeResponseListDto;
+import com.example.namoldak.dto.ResponseDto.CursorResponseDto;
 import com.example.namoldak.repository.CommentRepository;
 import com.example.namoldak.util.GlobalResponse.CustomException;
 import com.example.namoldak.util.GlobalResponse.code.StatusCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 // 기능 : 댓글 서비스
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class CommentService {
     private final PostQuery postQuery;
     private final PostCommand postCommand;
     private final CommentRepository commentRepository;
+    private final int treeMaxDepth;     // 댓글 트리에서 불러올 대댓글 최대 깊이
+    private final int treeMaxReplies;   // 한 번에 불러올 대댓글 최대 개수
+
+    public CommentService(PostQuery postQuery, PostCommand postCommand, CommentRepository commentRepository,
+                          @Value("${namoldak.comment.tree-max-depth:10}") int treeMaxDepth,
+                          @Value("${namoldak.comment.tree-max-replies:500}") int treeMaxReplies) {
+        this.postQuery         = postQuery;
+        this.postCommand       = postCommand;
+        this.commentRepository = commentRepository;
+        this.treeMaxDepth      = treeMaxDepth;
+        this.treeMaxReplies    = treeMaxReplies;
+    }
 
     // 댓글 전체 불러오기
     public CommentResponseListDto getAllComment(Long id, Pageable pageable) {
@@ -41,7 +58,59 @@ public class CommentService {
         return new CommentResponseListDto(totalPage, commentResponseDtoList);
     }
 
+    // 댓글 트리 조회 : 최상위 댓글 한 페이지 + 대댓글은 깊이마다 한 번씩 조회해서 Id 로 바로 부모에 붙임
+    // 깊이와 대댓글 수에 상한이 있어서 아주 긴 스레드도 한 번에 전부 메모리에 올리지 않음
+    @Transactional(readOnly = true)
+    public CommentTreeResponseListDto getCommentTree(Long postId, Pageable pageable) {
+        Page<CommentTreeResponseDto> roots = postQuery.findRootCommentTree(postId, pageable);
+
+        Map<Long, CommentTreeResponseDto> commentById = new HashMap<>();
+        List<Long> parentIds = new ArrayList<>();
+        for (CommentTreeResponseDto root : roots) {
+            commentById.put(root.getId(), root);
+            parentIds.add(root.getId());
+        }
+
+        boolean truncated = false;
+        int remaining = treeMaxReplies;
+        for (int depth = 1; !parentIds.isEmpty(); depth++) {
+            // 깊이 / 개수 상한에 닿았다면 더 불러오지 않고 남은 대댓글이 있는지만 확인
+            if (depth > treeMaxDepth || remaining == 0) {
+                truncated = postQuery.existsReply(parentIds);
+                break;
+            }
+            List<CommentTreeResponseDto> replies = postQuery.findReplyTree(parentIds, remaining + 1);
+            if (replies.size() > remaining) {
+                replies = replies.subList(0, remaining);
+                truncated = true;
+            }
+            remaining -= replies.size();
+
+            parentIds = new ArrayList<>();
+            for (CommentTreeResponseDto reply : replies) {
+                commentById.get(reply.getParentId()).addReply(reply);
+                commentById.put(reply.getId(), reply);
+                parentIds.add(reply.getId());
+            }
+            if (truncated) {
+                break;
+            }
+        }
+        return new CommentTreeResponseListDto(roots.getTotalPages(), truncated, roots.getContent());
+    }
+
+    // 댓글 무한 스크롤 조회 (마지막으로 본 댓글의 작성 시간, Id 이후부터)
+    public CursorResponseDto<CommentResponseDto> getCommentsByCursor(Long postId, LocalDateTime createdAt, Long id, int size) {
+        int limit = CursorResponseDto.limitSize(size);
+        List<CommentResponseDto> comments = new ArrayList<>();
+        for (Comment comment : postQuery.findCommentCursorByPostId(postId, createdAt, id, limit + 1)) {
+            comments.add(new CommentResponseDto(comment));
+        }
+        return CursorResponseDto.of(comments, limit, CommentResponseDto::getCreatedAt, CommentResponseDto::getId);
+    }
+
     // 댓글 작성
+    @Transactional
     public CommentResponseDto createComment(Long postId, CommentRequestDto commentRequestDto, Member member) {
         // 매개변수로 받아온 포스트 Id를 활용해서 Post 객체 저장
         Post post = postQuery.findPostById(postId);
@@ -54,6 +123,7 @@ public class CommentService {
     }
 
     // 대댓글 작성
+    @Transactional
     public CommentResponseDto createReply(Long postId, Long commentId, CommentRequestDto commentRequestDto, Member member) {
         Post post = postQuery.findPostById(postId);
 
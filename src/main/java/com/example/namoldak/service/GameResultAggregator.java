@@ -0,0 +1,240 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domain.GameResult;
+import com.example.namoldak.domain.Member;
+import com.example.namoldak.domain.MemberCounter;
+import com.example.namoldak.repository.MemberCounterRepository;
+import com.example.namoldak.repository.MemberRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 기능 : 게임 결과 기록을 모아서 멤버 전적(승, 패, 총 게임 수, 플레이 시간)과 리워드를 뒤에서 반영
+// 게임 종료 요청은 결과 기록만 넘기고 바로 끝나고, 여러 판의 결과는 멤버별로 합쳐 증가 UPDATE 를 batch 로 실행
+// 대기열이 가득 차면 넘긴 쪽 스레드에서 바로 반영하고, 반영에 실패한 결과는 한 판씩 다시 반영한 뒤에도 실패한 판만 max-attempts 번까지 다시 대기열에 넣은 뒤 포기(로그에 내용을 남김)
+@Slf4j
+@Service
+public class GameResultAggregator {
+    private final MemberCounterRepository memberCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberRepository memberRepository;
+    private final RewardService rewardService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final BlockingQueue<Pending> queue;
+    private final AtomicLong retriedCnt = new AtomicLong();
+    private final AtomicLong deadLetterCnt = new AtomicLong();
+    private Thread worker;
+    private volatile boolean running;
+
+    public GameResultAggregator(MemberCounterRepository memberCounterRepository,
+                                PlatformTransactionManager transactionManager,
+                                MemberRepository memberRepository,
+                                RewardService rewardService,
+                                MeterRegistry meterRegistry,
+                                @Value("${namoldak.game-result.batch-size:100}") int batchSize,
+                                @Value("${namoldak.game-result.queue-limit:10000}") int queueLimit,
+                                @Value("${namoldak.game-result.max-attempts:3}") int maxAttempts,
+                                @Value("${namoldak.game-result.retry-delay-ms:1000}") long retryDelayMillis) {
+        this.memberCounterRepository = memberCounterRepository;
+        // 대기열이 가득 차서 커밋 직후(afterCommit)에 바로 반영할 때도 끝난 트랜잭션에 섞이지 않도록 항상 새 트랜잭션
+        this.transactionTemplate     = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.memberRepository        = memberRepository;
+        this.rewardService           = rewardService;
+        this.batchSize               = batchSize;
+        this.queue                   = new LinkedBlockingQueue<>(queueLimit);
+        this.maxAttempts             = maxAttempts;
+        this.retryDelayMillis        = retryDelayMillis;
+        registerMetrics(meterRegistry);
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("game.result.backlog", queue, BlockingQueue::size)
+                .description("전적에 반영되길 기다리는 게임 결과 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("game.result.retried", retriedCnt, AtomicLong::get)
+                .description("반영에 실패해서 다시 대기열에 넣은 게임 결과 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("game.result.dead-letter", deadLetterCnt, AtomicLong::get)
+                .description("재시도 횟수를 넘겨 반영을 포기한 게임 결과 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "game-result-aggregator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 서버 종료 시 남은 결과까지 반영하고 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty() && !apply(remaining)) {
+            // 더 이상 재시도할 스레드가 없으므로 다시 넣은 결과도 포기
+            remaining.clear();
+            queue.drainTo(remaining);
+            remaining.forEach(this::giveUp);
+        }
+    }
+
+    // 게임 결과 기록 전달 (대기열에 넣기만 하므로 바로 반환, 대기열이 가득 찼다면 이 스레드에서 바로 반영)
+    public void submit(GameResult gameResult) {
+        Pending pending = new Pending(gameResult, 0);
+        if (!queue.offer(pending)) {
+            log.warn("게임 결과 대기열이 가득 차서 바로 반영 : " + gameResult.getRoomId());
+            apply(Collections.singletonList(pending));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            try {
+                // 하나가 들어올 때까지 기다렸다가 그 사이 쌓인 결과를 한 번에 가져감
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                requeue(batch);
+                return;
+            }
+            if (!apply(batch)) {
+                // DB 장애라면 바로 다시 실패하므로 잠시 쉬었다가 재시도
+                try {
+                    Thread.sleep(retryDelayMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 멤버별로 증가량을 합쳐서 반영, 모두 반영했다면 true
+    // 여러 판을 한 번에 반영하다 실패하면 한 판씩 다시 반영해서 실패한 판만 재시도 (한 판 때문에 나머지까지 밀리지 않도록)
+    boolean apply(List<Pending> batch) {
+        if (applyInTransaction(batch)) {
+            return true;
+        }
+        if (batch.size() == 1) {
+            retryOrGiveUp(batch);
+            return false;
+        }
+        boolean applied = true;
+        for (Pending pending : batch) {
+            List<Pending> single = Collections.singletonList(pending);
+            if (!applyInTransaction(single)) {
+                retryOrGiveUp(single);
+                applied = false;
+            }
+        }
+        return applied;
+    }
+
+    // 멤버별 증가 UPDATE 한 번씩, 이어서 넘어선 리워드 지급 (하나의 트랜잭션)
+    private boolean applyInTransaction(List<Pending> batch) {
+        List<GameResult> results = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            results.add(pending.gameResult);
+        }
+        Map<Long, EnumMap<MemberCounter, Long>> deltasByMemberId = coalesce(results);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                memberCounterRepository.incrementAll(deltasByMemberId);
+
+                // 증가가 반영된 값으로 리워드 확인 (탈퇴한 멤버는 조회되지 않으므로 건너뜀)
+                List<Member> members = memberRepository.findAllById(deltasByMemberId.keySet());
+                rewardService.grantRewards(members, deltasByMemberId);
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.error("게임 결과 반영 실패 (" + batch.size() + "판) : " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    // 실패한 결과는 시도 횟수를 올려서 다시 대기열에 넣고, 횟수를 넘겼거나 자리가 없으면 포기
+    private void retryOrGiveUp(List<Pending> batch) {
+        for (Pending pending : batch) {
+            Pending retry = new Pending(pending.gameResult, pending.attempts + 1);
+            if (retry.attempts < maxAttempts && queue.offer(retry)) {
+                retriedCnt.incrementAndGet();
+            } else {
+                giveUp(retry);
+            }
+        }
+    }
+
+    // 종료 중 꺼낸 결과를 되돌림 (시도 횟수는 그대로, 자리가 없으면 포기)
+    private void requeue(List<Pending> batch) {
+        for (Pending pending : batch) {
+            if (!queue.offer(pending)) {
+                giveUp(pending);
+            }
+        }
+    }
+
+    // 나중에 직접 반영할 수 있도록 결과 내용을 모두 로그에 남김
+    private void giveUp(Pending pending) {
+        deadLetterCnt.incrementAndGet();
+        GameResult gameResult = pending.gameResult;
+        log.error("게임 결과 반영 포기 (시도 " + pending.attempts + "번) : roomId=" + gameResult.getRoomId()
+                + ", memberIds=" + gameResult.getMemberIds() + ", winnerId=" + gameResult.getWinnerId()
+                + ", playTime=" + gameResult.getPlayTime());
+    }
+
+    // 대기 중인 결과 수
+    int getBacklog() {
+        return queue.size();
+    }
+
+    // 반영을 포기한 결과 수
+    long getDeadLetterCount() {
+        return deadLetterCnt.get();
+    }
+
+    // 멤버 Id - 카운터별 증가량
+    static Map<Long, EnumMap<MemberCounter, Long>> coalesce(List<GameResult> batch) {
+        Map<Long, EnumMap<MemberCounter, Long>> deltasByMemberId = new LinkedHashMap<>();
+        for (GameResult gameResult : batch) {
+            for (Long memberId : gameResult.getMemberIds()) {
+                EnumMap<MemberCounter, Long> deltas = deltasByMemberId.computeIfAbsent(memberId, id -> new EnumMap<>(MemberCounter.class));
+                deltas.merge(MemberCounter.TOTAL_GAME_NUM, 1L, Long::sum);
+                deltas.merge(gameResult.isWinner(memberId) ? MemberCounter.WIN_NUM : MemberCounter.LOSE_NUM, 1L, Long::sum);
+                deltas.merge(MemberCounter.PLAY_TIME, gameResult.getPlayTime(), Long::sum);
+            }
+        }
+        return deltasByMemberId;
+    }
+
+    // 대기열의 게임 결과와 지금까지 실패한 횟수
+    static class Pending {
+        private final GameResult gameResult;
+        private final int attempts;
+
+        Pending(GameResult gameResult, int attempts) {
+            this.gameResult = gameResult;
+            this.attempts   = attempts;
+        }
+    }
+}
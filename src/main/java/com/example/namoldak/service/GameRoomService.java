@@ -6,21 +6,21 @@ import com.example.namoldak.domainModel.GameQuery;
 import com.example.namoldak.domainModel.MemberCommand;
 import com.example.namoldak.domainModel.MemberQuery;
 import com.example.namoldak.dto.RequestDto.GameRoomRequestDto;
-import com.example.namoldak.dto.ResponseDto.GameRoomResponseDto;
 import com.example.namoldak.dto.ResponseDto.GameRoomResponseListDto;
-import com.example.namoldak.dto.ResponseDto.MemberResponseDto;
+import com.example.namoldak.repository.RoomAdmissionRepository;
 import com.example.namoldak.repository.SessionRepository;
 import com.example.namoldak.util.GlobalResponse.CustomException;
 import com.example.namoldak.util.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.*;
+import static com.example.namoldak.util.transaction.TransactionHooks.afterCommit;
+import static com.example.namoldak.util.transaction.TransactionHooks.afterRollback;
 
 // 기능 : 게임룸 서비스
 @Slf4j
@@ -33,59 +33,14 @@ public class GameRoomService {
     private final MemberCommand memberCommand;
     private final GameQuery gameQuery;
     private final GameCommand gameCommand;
+    private final LobbyService lobbyService;
+    private final RoomAdmissionRepository roomAdmissionRepository;
     private final SessionRepository sessionRepository = SessionRepository.getInstance();
 
 
-    // 게임룸 전체 조회
-    @Transactional
+    // 게임룸 전체 조회 (DB 대신 로비 스냅샷에서 조회, 이후 변경분은 /sub/lobby 구독으로 받음)
     public GameRoomResponseListDto mainPage(Pageable pageable) {
-
-        // DB에 저장된 모든 Room들을 리스트형으로 저장 + 페이징 처리
-        Page<GameRoom> rooms = gameQuery.findGameRoomByPageable(pageable);
-
-        // DB에 저장된 모든 Room들을 리스트로 가져와
-        List<GameRoom> roomList = gameQuery.findAllGameRoomList();
-
-        // 필요한 키값들을 반환하기 위해서 미리 Dto 리스트 선언
-        List<GameRoomResponseDto> gameRoomList = new ArrayList<>();
-
-        for (GameRoom room : rooms){
-            // 모든 Room들이 모여있는 rooms에서 하나씩 추출 -> Room 객체 활용해서 GameRoomMember DB에서 찾은 후 리스트에 저장
-            List<GameRoomAttendee> gameRoomAttendeeList = gameQuery.findAttendeeByGameRoom(room);
-            // 필요한 키값들을 반환하기 위해서 미리 Dto 리스트 선언
-            List<MemberResponseDto> memberList = new ArrayList<>();
-            for (GameRoomAttendee gameRoomAttendee : gameRoomAttendeeList) {
-                // GameRoomMember에 저장된 멤버 아이디로 DB 조회 후 데이터 저장
-                Member eachMember = memberQuery.findMemberById(gameRoomAttendee.getMember().getId());
-
-                // MemberResponseDto에 빌더 방식으로 각각의 데이터 값 넣어주기
-                MemberResponseDto memberResponseDto = MemberResponseDto.builder()
-                        .memberId(eachMember.getId())
-                        .email(eachMember.getEmail())
-                        .nickname(eachMember.getNickname())
-                        .build();
-                // 완성된 Dto 리스트에 추가
-                memberList.add(memberResponseDto);
-            }
-            // 그냥 Member가 아니라 GameRoomMember를 담아야 하기 때문에 GameRoomResponseDto로 다시 한번 감쌈
-            GameRoomResponseDto gameRoomResponseDto = GameRoomResponseDto.builder()
-                    .id(room.getGameRoomId())
-                    .roomName(room.getGameRoomName())
-                    .roomPassword(room.getGameRoomPassword())
-                    .member(memberList)
-                    .memberCnt(memberList.size())
-                    .owner(room.getOwner())
-                    .status(room.isStatus())
-                    .build();
-
-            // memberList에 데이터가 있다면 gameRoomList에 gameRoomResponseDto 추가
-            // for문 끝날 때 까지 반복
-            if (!memberList.isEmpty()) {
-                gameRoomList.add(gameRoomResponseDto);
-            }
-        }
-        int totalPage = rooms.getTotalPages();
-        return new GameRoomResponseListDto(totalPage, gameRoomList);
+        return lobbyService.getLobbyPage(pageable);
     }
 
     // 게임룸 생성
@@ -93,8 +48,7 @@ public class GameRoomService {
     public Map<String, String> makeGameRoom(Member member, GameRoomRequestDto gameRoomRequestDto) {
 
         // 게임방 만든 횟수 추가
-        member.updateMakeRoom(1L);
-        memberCommand.saveMember(member);
+        memberCommand.increaseCounter(member, MemberCounter.MAKE_ROOM_NUM);
 
         // 빌더 활용해서 GameRoom 엔티티 데이터 채워주기
         GameRoom gameRoom = GameRoom.builder()
@@ -113,6 +67,9 @@ public class GameRoomService {
         // GameRoomMember DB에 해당 데이터 저장
         gameCommand.saveGameRoomAttendee(gameRoomAttendee);
 
+        // 로비 스냅샷에 새 방 추가
+        lobbyService.createRoom(gameRoom, member);
+
         // data에 데이터를 담아주기 위해 HashMap 생성
         Map<String, String> roomInfo = new HashMap<>();
 
@@ -130,8 +87,8 @@ public class GameRoomService {
     @Transactional
     public Map<String, String> enterGame(Long roomId, Member member) {
 
-        // roomId로 DB에서 데이터 찾아와서 담음
-        GameRoom enterGameRoom = gameQuery.findGameRoomByRoomIdLock(roomId);
+        // roomId로 DB에서 데이터 찾아와서 담음 (락 없이 조회, 정원은 아래에서 메모리로 판단)
+        GameRoom enterGameRoom = gameQuery.findGameRoomByRoomId(roomId);
 
         // 방의 상태가 false면 게임이 시작 중이거나 가득 찬 상태이기 때문에 출입이 불가능
         if (!enterGameRoom.isStatus()) {
@@ -139,38 +96,26 @@ public class GameRoomService {
             throw new CustomException(ALREADY_PLAYING);
         }
 
-        // 입장하려는 게임방을 이용해서 GameRoomMember DB에서 유저 정보 전부 빼와서 리스트형에 저장 (입장 정원 확인 용도)
-        List<GameRoomAttendee> gameRoomAttendeeList = gameQuery.findAttendeeByGameRoom(enterGameRoom);
-
-        // 만약 방에 4명이 넘어가면
-        if (gameRoomAttendeeList.size() > 3) {
-            // 입장 안 된다고 입구컷
-            throw new CustomException(CANT_ENTER);
-        }
+        // 이미 입장해 있거나 정원(4명)이 다 찼다면 입구컷, 아니라면 자리 하나 차지 (입장 전 인원 수 반환)
+        RoomAdmission roomAdmission = roomAdmissionRepository.findOrLoad(roomId, () -> getAttendeeMemberIds(roomId));
+        int memberCnt = roomAdmission.admit(member.getId());
+        // 입장 처리가 롤백되면 차지한 자리 반납
+        afterRollback(() -> roomAdmission.release(member.getId()));
 
         // 멤버가 방에 입장한 횟수 1개 증가
-        member.updateEnterGame(1L);
-        memberCommand.saveMember(member);
-
-        // for문으로 리스트에서 gameRoomMember 하나씩 빼주기
-        for (GameRoomAttendee gameRoomAttendee : gameRoomAttendeeList) {
-            // gameRoomMember에서 얻은 유저 아이디로 Member 객체 저장
-            Member member1 = memberQuery.findMemberById(gameRoomAttendee.getMember().getId());
-            // 현재 들어가려는 유저의 ID와 게임에 들어가있는 멤버의 ID가 똑같으면 입구컷 해버림
-            if (member.getId().equals(member1.getId())) {
-//                return new PrivateResponseBody(StatusCode.MEMBER_DUPLICATED, "이미 입장해있닭!!");
-                throw new CustomException(MEMBER_DUPLICATED);
-            }
-        }
+        memberCommand.increaseCounter(member, MemberCounter.ENTER_GAME_NUM);
 
         GameRoomAttendee gameRoomAttendee = new GameRoomAttendee(enterGameRoom, member);
 
         // DB에 데이터 저장
         gameCommand.saveGameRoomAttendee(gameRoomAttendee);
 
+        // 로비 스냅샷에 참가자 추가
+        lobbyService.addMember(roomId, member);
+
         Map<String, Object> contentSet = new HashMap<>();
         contentSet.put("owner", enterGameRoom.getOwner());
-        contentSet.put("memberCnt", gameRoomAttendeeList.size());
+        contentSet.put("memberCnt", memberCnt);
         contentSet.put("enterComment", roomId + "번 방에" + String.valueOf(member.getId()) + "님이 입장하셨습니닭!");
 
         // 게임 메세지 전송
@@ -213,51 +158,15 @@ public class GameRoomService {
         }
     }
 
-    // 게임룸 키워드 조회
+    // 게임룸 키워드 조회 (LIKE 검색 대신 로비 스냅샷의 게임룸 이름 색인에서 조회)
     public GameRoomResponseListDto searchGame(Pageable pageable, String keyword) {
-        // 게임룸 이름을 keyword(검색어)로 잡고 조회 + 페이징 처리
-        Page<GameRoom> rooms = gameQuery.findGameRoomByContainingKeyword(pageable, keyword);
+        GameRoomResponseListDto rooms = lobbyService.searchLobby(pageable, keyword);
 
-        if(rooms.isEmpty()){
+        if(rooms.getGameRoomResponseDtoList().isEmpty()){
             throw new CustomException(NOT_EXIST_ROOMS);
         }
 
-        List<GameRoomResponseDto> gameRoomList = new ArrayList<>();
-        for (GameRoom room : rooms) {
-            // 게임룸에 입장해 있는 멤버 조회
-            List<GameRoomAttendee> gameRoomAttendeeList = gameQuery.findAttendeeByGameRoom(room);
-            List<MemberResponseDto> memberList = new ArrayList<>();
-
-            for (GameRoomAttendee gameRoomAttendee : gameRoomAttendeeList){
-                Member eachMember = memberQuery.findMemberById(gameRoomAttendee.getMember().getId());
-
-                // 멤버로부터 필요한 정보인 id, email, nickname만 Dto에 담아주기
-                MemberResponseDto memberResponseDto = MemberResponseDto.builder()
-                        .memberId(eachMember.getId())
-                        .email(eachMember.getEmail())
-                        .nickname(eachMember.getNickname())
-                        .build();
-                // 담긴 정보 저장
-                memberList.add(memberResponseDto);
-            }
-            // 게임룸에 필요한 정보를 Dto에 담아주기
-            GameRoomResponseDto gameRoomResponseDto = GameRoomResponseDto.builder()
-                    .id(room.getGameRoomId())
-                    .roomName(room.getGameRoomName())
-                    .roomPassword(room.getGameRoomPassword())
-                    .member(memberList)
-                    .memberCnt(memberList.size())
-                    .owner(room.getOwner())
-                    .status(room.isStatus())
-                    .build();
-            // 방에 멤버가 1명 이상이라면, 담아줬던 데이터 저장하기
-            if (!memberList.isEmpty()) {
-                gameRoomList.add(gameRoomResponseDto);
-            }
-        }
-        // 저장된 정보가 담긴 리스트를 반환
-        int totalPage = rooms.getTotalPages();
-        return new GameRoomResponseListDto(totalPage, gameRoomList);
+        return rooms;
     }
 
     // 방 나가기
@@ -271,6 +180,7 @@ public class GameRoomService {
 
         // 위에서 구한 GameRoomMemeber 객체로 DB 데이터 삭제
         gameCommand.deleteGameRoomAttendee(gameRoomAttendee);
+        afterCommit(() -> roomAdmissionRepository.release(roomId, member.getId()));
 
         // 게임방에 남아있는 유저들 구하기
         List<GameRoomAttendee> existGameRoomAttendee = gameQuery.findAttendeeByGameRoom(enterGameRoom);
@@ -278,12 +188,16 @@ public class GameRoomService {
         // 남아있는 유저의 수가 0명이라면 게임방 DB에서 데이터 삭제
         if (existGameRoomAttendee.size() == 0) {
             // 혼자 있을 때 방에서 나간 횟수 증가
-            member.updateSoloExit(1L);
-            memberCommand.saveMember(member);
+            memberCommand.increaseCounter(member, MemberCounter.SOLO_EXIT_NUM);
             gameCommand.deleteGameRoom(enterGameRoom);
+            lobbyService.deleteRoom(roomId);
+            afterCommit(() -> roomAdmissionRepository.deleteByRoomId(roomId));
 
             // 게임 채팅방도 삭제해줌
             sessionRepository.deleteAllclientsInRoom(roomId);
+        } else {
+            // 로비 스냅샷에서 참가자 제거
+            lobbyService.removeMember(roomId, member.getId());
         }
 
         // 게임이 시잓된 상태에서 나갔을 경우
@@ -305,6 +219,7 @@ public class GameRoomService {
             // 남은 사람들의 수 만큼 랜덤으로 돌려서 나온 멤버 ID
             String nextOwner = existGameRoomAttendee.get((int) (Math.random() * existGameRoomAttendee.size())).getMemberNickname();
             enterGameRoom.setOwner(nextOwner);
+            lobbyService.changeOwner(roomId, nextOwner);
             gameService.sendGameMessage(roomId, GameMessage.MessageType.NEWOWNER, null, null, nextOwner);
         }
     }
@@ -337,4 +252,13 @@ public class GameRoomService {
             }
         }
     }
+
+    // 게임룸 참가자들의 멤버 Id (입장 정원 정보를 처음 만들 때 사용)
+    private List<Long> getAttendeeMemberIds(Long roomId) {
+        List<Long> memberIdList = new ArrayList<>();
+        for (GameRoomAttendee gameRoomAttendee : gameQuery.findAttendeeByRoomId(roomId)) {
+            memberIdList.add(gameRoomAttendee.getMember().getId());
+        }
+        return memberIdList;
+    }
 }
@@ -3,10 +3,8 @@ package com.example.namoldak.service;
 import com.example.namoldak.domain.*;
 import com.example.namoldak.domainModel.GameCommand;
 import com.example.namoldak.domainModel.GameQuery;
-import com.example.namoldak.domainModel.MemberCommand;
-import com.example.namoldak.domainModel.MemberQuery;
 import com.example.namoldak.dto.RequestDto.GameDto;
-import com.example.namoldak.dto.ResponseDto.VictoryDto;
+import com.example.namoldak.repository.GameStateRepository;
 import com.example.namoldak.util.GlobalResponse.CustomException;
 import com.example.namoldak.util.GlobalResponse.code.StatusCode;
 import com.example.namoldak.util.converter.GameStartSetConverter;
@@ -18,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.*;
+import static com.example.namoldak.util.transaction.TransactionHooks.afterCommit;
 
 // 기능 : 게임 진행 서비스
 @Slf4j
@@ -25,12 +24,13 @@ import static com.example.namoldak.util.GlobalResponse.code.StatusCode.*;
 @Service
 public class GameService {
     private final SimpMessageSendingOperations messagingTemplate;
-    private final RewardService rewardService;
-    private final MemberQuery memberQuery;
-    private final MemberCommand memberCommand;
+    private final GameResultAggregator gameResultAggregator;
     private final GameQuery gameQuery;
     private final GameCommand gameCommand;
     private final GameStartSetConverter gameStartSetConverter;
+    private final GameStateRepository gameStateRepository;
+    private final LobbyService lobbyService;
+    private final KeywordService keywordService;
 
 
     // 게임 시작
@@ -49,39 +49,41 @@ public class GameService {
         List<GameRoomAttendee> gameRoomAttendees = gameQuery.findAttendeeByGameRoom(gameRoom);
         // 게임방의 상태를 start 상태로 업데이트
         gameRoom.setStatus(false);
+        lobbyService.changeStatus(roomId, false);
 
         // 랜덤으로 뽑은 키워드의 카테고리
         String category = Category.getRandom().name();
         // 같은 카테고리를 가진 키워드 리스트 만들기
-        List<Keyword> keywordList = getRandomKeyword(gameRoomAttendees.size(), category);
+        List<String> keywordList = getRandomKeyword(gameRoomAttendees.size(), category);
         // 웹소켓으로 방에 참가한 인원 리스트 전달을 위한 리스트 (닉네임만 필요하기에 닉네임만 담음)
         List<String> memberNicknameList = getNicknameList(gameRoomAttendees);
+        List<Long> memberIdList = getMemberIdList(gameRoomAttendees);
         //게임룸 멤버한테 키워드 배당
-        Map<String, String> keywordToMember = matchKeywordToMember(keywordList, memberNicknameList);
+        KeywordAssignment keywordToMember = KeywordAssignment.of(memberNicknameList, keywordList);
 
         GameStartSet gameStartSet = GameStartSet.builder()
                 .roomId(roomId)
                 .category(category)
-                .keywordToMember(gameStartSetConverter.getStrFromMap(keywordToMember))
+                .keywordToMember(keywordToMember)
                 .round(0)
                 .spotNum(0)
                 .winner("")
                 .gameStartTime(System.currentTimeMillis())
                 .build();
 
-        // StartSet 저장
+        // StartSet 저장 (게임 진행 중에는 DB 대신 메모리의 게임 상태를 사용)
         gameCommand.saveGameStartSet(gameStartSet);
+        gameStateRepository.save(new GameState(roomId, category, memberNicknameList, memberIdList, keywordToMember, gameStartSet.getGameStartTime()));
 
-        GameStartSet searchOneGameStartSet = gameQuery.findGameStartSetByRoomId(roomId);
-        log.info("카테고리 : " + searchOneGameStartSet.getCategory());
+        log.info("카테고리 : " + category);
         for (String memberNick : memberNicknameList) {
-            log.info("키워드 : " + keywordToMember.get(memberNick));
+            log.info("키워드 : " + keywordToMember.getKeyword(memberNick));
         }
 
         // 웹소켓으로 전달드릴 content 내용
         Map<String, Object> startSet = new HashMap<>();
-        startSet.put("category", gameStartSet.getCategory()); // 카테고리
-        startSet.put("keyword", gameStartSetConverter.getMapFromStr(gameStartSet.getKeywordToMember())); // 키워드
+        startSet.put("category", category); // 카테고리
+        startSet.put("keyword", keywordToMember.asMap()); // 키워드
         startSet.put("memberList", memberNicknameList); // 방에 존재하는 모든 유저들
         startSet.put("startAlert", "총 8라운드닭! 초록색으로 하이라이트된 사람만 말할 수 있고 다른 사람들은 마이크 기능이 제한되니까 채팅으로 알려주면 된닭!");
 
@@ -96,74 +98,44 @@ public class GameService {
     }
 
 
-    @Transactional
+    // 발언권 부여 (메모리의 게임 상태만 사용하므로 DB 조회 없음)
     public void spotlight(Long roomId) {
 
-        GameRoom playRoom = gameQuery.findGameRoomByRoomId(roomId);
-
-        // 해당 게임룸의 게임셋을 조회
-        GameStartSet gameStartSet = gameQuery.findGameStartSetByRoomId(roomId);
-
-        // 게임이 진행이 불가한 상태라면 초기화 시켜야 함
-        if (playRoom.isStatus()) { // false : 게임이 진행 중, true : 게임 시작 전
-            gameStartSet.setRound(0);
-            gameStartSet.setSpotNum(0);
-            gameCommand.saveGameStartSet(gameStartSet);
+        // 해당 게임룸의 게임 상태를 조회 (진행 상황을 잃어 종료했다면 더 진행하지 않음)
+        GameState gameState = findGameStateOrClose(roomId);
+        if (gameState == null) {
+            return;
         }
 
-        // 유저들 정보 조회
-        List<GameRoomAttendee> memberListInGame = gameQuery.findAttendeeByGameRoom(playRoom);
-
-        // 라운드 진행 중
-        if (gameStartSet.getSpotNum() < memberListInGame.size()) {
-
-            // 현재 스포트라이트 받는 멤버
-            Member spotMember = memberQuery.findMemberById(memberListInGame.get(gameStartSet.getSpotNum()).getMember().getId());
+        // 현재 스포트라이트 받는 멤버 (다음 차례로 넘기면서 라운드도 함께 관리)
+        String spotMember = gameState.nextSpotlight();
 
+        if (spotMember != null) {
             // 메세지 알림
-            String msg = spotMember.getNickname() + "님의 차례입니닭!";
-            sendGameMessage(roomId, GameMessage.MessageType.SPOTLIGHT, msg, spotMember.getNickname(), spotMember.getNickname());
-
-            // 다음 차례로!
-            gameStartSet.setSpotNum(gameStartSet.getSpotNum() +1);
-            gameCommand.saveGameStartSet(gameStartSet);
-
-        } else if (gameStartSet.getSpotNum() == memberListInGame.size()) {
-
-            if (gameStartSet.getRound() < 7) {
-                // 한 라운드 종료, 라운드 +1 , 위치 정보 초기화
-                gameStartSet.setRound(gameStartSet.getRound() +1);
-                gameStartSet.setSpotNum(0);
-                gameCommand.saveGameStartSet(gameStartSet);
-                spotlight(roomId);
-
-                // 0번부터 시작이다
-            } else if (gameStartSet.getRound() == 7) {
-                // 메세지 알림
-                String msg = "너흰 전부 바보닭!!!";
-                sendGameMessage(roomId, GameMessage.MessageType.STUPID, msg, null, null);
-
-                forcedEndGame(roomId, null);
-            }
+            String msg = spotMember + "님의 차례입니닭!";
+            sendGameMessage(roomId, GameMessage.MessageType.SPOTLIGHT, msg, spotMember, spotMember);
+        } else {
+            // 마지막 라운드까지 정답자가 없는 경우
+            String msg = "너흰 전부 바보닭!!!";
+            sendGameMessage(roomId, GameMessage.MessageType.STUPID, msg, null, null);
+
+            forcedEndGame(roomId, null);
         }
     }
 
-    // 정답
-    @Transactional
+    // 정답 (메모리의 게임 상태만 사용하므로 DB 조회 없음)
     public void gameAnswer(Long roomId, GameDto gameDto) {
         // 모달창에 작성한 정답
-        String answer = gameDto.getAnswer().replaceAll(" ", "");
-
-        // gameStartSet 불러오기
-        GameStartSet gameStartSet = gameQuery.findGameStartSetByRoomId(roomId);
-
-        // 정답을 맞추면 게임 끝
-        if (gameStartSetConverter.getMapFromStr(gameStartSet.getKeywordToMember()).get(gameDto.getNickname()).equals(answer)){
+        String answer = gameDto.getAnswer().replace(" ", "");
 
-            // 정답자
-            gameStartSet.setWinner(gameDto.getNickname());
-            gameCommand.saveGameStartSet(gameStartSet);
+        // 게임 상태 불러오기 (진행 상황을 잃어 종료했다면 더 진행하지 않음)
+        GameState gameState = findGameStateOrClose(roomId);
+        if (gameState == null) {
+            return;
+        }
 
+        // 정답을 맞추면 게임 끝 (정답자는 게임 상태에 기록)
+        if (gameState.checkAnswer(gameDto.getNickname(), answer)){
             // 메세지 알림
             String msg = gameDto.getNickname() + "님이 작성하신" + answer + "은(는) 정답입니닭!";
             sendGameMessage(roomId, GameMessage.MessageType.SUCCESS, msg, gameDto.getNickname(), null);
@@ -177,78 +149,71 @@ public class GameService {
     // 게임 강제 종료
     @Transactional
     public void forcedEndGame(Long roomId, String nickname){
+        // 메세지 알림
+        String msg = nickname == null ? "게임이 종료되었닭!!" : nickname + " 님이 방에서 탈주해서 강제 종료되었닭!!";
+        closeGame(roomId, msg);
+    }
 
+    // 종료 메세지를 보내고 게임 셋팅 삭제, 방 상태를 대기로 변경
+    private void closeGame(Long roomId, String msg) {
         // 현재 게임방 정보 불러오기
         GameRoom enterGameRoom = gameQuery.findGameRoomByRoomId(roomId);
 
-        // 메세지 알림
-        String msg = nickname == null ? "게임이 종료되었닭!!" : nickname + " 님이 방에서 탈주해서 강제 종료되었닭!!";
         sendGameMessage(roomId, GameMessage.MessageType.FORCEDENDGAME, msg, null, null);
 
-        // DB에서 게임 셋팅 삭제
+        // 메모리와 DB에서 게임 셋팅 삭제
+        gameStateRepository.deleteByRoomId(roomId);
         gameCommand.deleteGameStartSetByRoomId(roomId);
 
-        // 현재 방 상태 정보를 true로 변경
+        // 현재 방 상태 정보를 true로 변경 (spotlight에서 호출될 때는 트랜잭션 밖이므로 직접 저장)
         enterGameRoom.setStatus(true);
+        gameCommand.saveGameRoom(enterGameRoom);
+        lobbyService.changeStatus(roomId, true);
     }
 
     // 게임 정상 종료
+    // 전적과 리워드는 결과 기록만 넘기고 GameResultAggregator 가 뒤에서 모아서 반영
     @Transactional
     public void endGame(Long roomId){
-        // 승리자와 패배자를 list로 반환할 DTO 생성
-        VictoryDto victoryDto = new VictoryDto();
+        // 게임 상태 불러오기 (진행 상황을 잃어 종료했다면 결과 기록 없음)
+        GameState gameState = findGameStateOrClose(roomId);
+        if (gameState == null) {
+            return;
+        }
+        GameResult gameResult = gameState.toResult(System.currentTimeMillis());
 
-        // 방 게임셋 정보 불러오기
-        GameStartSet gameStartSet = gameQuery.findGameStartSetByRoomId(roomId);
+        // 메세지 알림
+        sendGameMessage(roomId, GameMessage.MessageType.ENDGAME, gameStartSetConverter.getStrFromMap(gameState.getKeywordToMember().asMap()), null, null);
 
         // 현재 게임룸 데이터 불러오기
         GameRoom enterGameRoom = gameQuery.findGameRoomByRoomId(roomId);
 
-        // 불러온 게임룸으로 들어간 GameRoomMember들 구하기
-        List<GameRoomAttendee> gameRoomAttendeeList = gameQuery.findAttendeeByGameRoom(enterGameRoom);
-
-        // 닉네임을 구하기 위해서 멤버 객체를 담을 리스트 선언
-        List<Member> memberList = new ArrayList<>();
-
-        // for문으로 하나씩 빼서 DB 조회 후 List에 넣어주기
-        for (GameRoomAttendee gameRoomAttendee : gameRoomAttendeeList){
-            Member member = memberQuery.findMemberById(gameRoomAttendee.getMember().getId());
-            // 멤버 총 게임 횟수 증가
-            member.updateTotalGame(1L);
-            memberCommand.saveMember(member);
-            memberList.add(member);
-            rewardService.createTotalGameReward(member);
-        }
-        Long startTime = gameStartSet.getGameStartTime();
-        Long currentTime = System.currentTimeMillis();
-        Long playTime = (currentTime - startTime) / 1000;
-        // member의 닉네임이 정답자와 같지 않을 경우 전부 Loser에 저장하고 같을 경우 Winner에 저장
-        for (Member member : memberList){
-            if (!member.getNickname().equals(gameStartSet.getWinner())){
-                victoryDto.setLoser(member.getNickname());
-                // 멤버 패배 기록 추가
-                member.updateLoseNum(1L);
-                member.updatePlayTime(playTime);
-                memberCommand.saveMember(member);
-                rewardService.createLoseReward(member);
-            } else {
-                victoryDto.setWinner(member.getNickname());
-                // 멤버 승리 기록 추가
-                member.updateWinNum(1L);
-                member.updatePlayTime(playTime);
-                memberCommand.saveMember(member);
-                rewardService.createWinReward(member);
-            }
-        }
-
-        // 메세지 알림
-        sendGameMessage(roomId, GameMessage.MessageType.ENDGAME, gameStartSet.getKeywordToMember(), null, null);
-
-        // DB에서 게임 셋팅 삭제
+        // 메모리와 DB에서 게임 셋팅 삭제
+        gameStateRepository.deleteByRoomId(roomId);
         gameCommand.deleteGameStartSetByRoomId(roomId);
 
         // 현재 방 상태 정보를 true로 변경
         enterGameRoom.setStatus(true);
+        lobbyService.changeStatus(roomId, true);
+
+        // 게임 종료가 커밋된 뒤에 결과 기록 전달
+        afterCommit(() -> gameResultAggregator.submit(gameResult));
+    }
+
+    // 메모리의 게임 상태 조회
+    // 스타트셋은 있는데 메모리에 상태가 없다면 (서버 재시작 등) 라운드와 발언 순서를 알 수 없으므로
+    // 처음부터 다시 시작하지 않고 게임을 종료한 뒤 null 반환
+    private GameState findGameStateOrClose(Long roomId) {
+        Optional<GameState> gameState = gameStateRepository.findByRoomId(roomId);
+        if (gameState.isPresent()) {
+            return gameState.get();
+        }
+        // 스타트셋도 없다면 진행 중인 게임이 아님 (GAME_SET_NOT_FOUND)
+        gameQuery.findGameStartSetByRoomId(roomId);
+
+        log.warn("게임 진행 정보 없음, 게임 종료 : roomId " + roomId);
+        closeGame(roomId, "게임 진행 정보가 사라져서 게임이 종료되었닭!! 다시 시작해달닭!!");
+        return null;
     }
 
     // 게임 운영자 메세지 전송
@@ -266,34 +231,22 @@ public class GameService {
         messagingTemplate.convertAndSend("/sub/gameRoom/" + roomId, gameMessage);
     }
 
-    // 키워드 생성
-    public List<Keyword> getRandomKeyword(int size, String category) {
-        // 같은 카테고리를 가진 키워드 리스트 만들기
-        List<Keyword> keywordList;
-
-        if (size == 4) {
-            // 참여 멤버가 4명 이라면, 랜덤으로 키워드 4장이 담긴 리스트를 만들어 준다.
-            keywordList = gameQuery.findTop4KeywordByCategory(category);
-        } else if (size == 3) {
-            // 참여 멤버가 3명 이라면, 랜덤으로 키워드 3장이 담긴 리스트를 만들어 준다.
-            keywordList = gameQuery.findTop3KeywordByCategory(category);
-        } else {
+    // 키워드 생성 (메모리의 키워드 덱에서 참가자 수만큼 서로 다른 키워드를 뽑음)
+    public List<String> getRandomKeyword(int size, String category) {
+        // 최소 3명은 있어야 게임 시작 가능
+        if (size < 3) {
             throw new CustomException(NOT_ENOUGH_MEMBER);
         }
-
-        return keywordList;
+        return keywordService.drawKeywords(category, size);
     }
 
-    // 키워드와 참가자 매칭
-    public Map<String, String> matchKeywordToMember(List<Keyword> keywordList, List<String> memberNicknameList) {
-        Map<String, String> keywordToMember = new HashMap<>();
-
-        //게임룸 멤버한테 키워드 배당
-        for (int i = 0; i < keywordList.size(); i++) {
-            keywordToMember.put(memberNicknameList.get(i), keywordList.get(i).getWord());
+    // 방의 참가자들 멤버 Id
+    public List<Long> getMemberIdList(List<GameRoomAttendee> gameRoomAttendees) {
+        List<Long> memberIdList = new ArrayList<>();
+        for (GameRoomAttendee gameRoomAttendee : gameRoomAttendees) {
+            memberIdList.add(gameRoomAttendee.getMember().getId());
         }
-
-        return keywordToMember;
+        return memberIdList;
     }
 
     // 방의 참가자들 닉네임
@@ -1,187 +1,82 @@
 package com.example.namoldak.service;
 
 import com.example.namoldak.domain.Member;
-import com.example.namoldak.domain.RefreshToken;
 import com.example.namoldak.domainModel.MemberCommand;
 import com.example.namoldak.domainModel.MemberQuery;
 import com.example.namoldak.dto.RequestDto.KakaoUserInfoDto;
-import com.example.namoldak.util.GlobalResponse.CustomException;
 import com.example.namoldak.util.jwt.JwtUtil;
 import com.example.namoldak.util.jwt.KakaoTokenDto;
-import com.example.namoldak.util.security.UserDetailsImpl;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.namoldak.util.oauth.KakaoClient;
+import com.example.namoldak.util.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import javax.servlet.http.HttpServletResponse;
 import java.util.UUID;
-import static com.example.namoldak.util.GlobalResponse.code.StatusCode.JSON_PROCESS_FAILED;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.namoldak.util.async.AsyncSteps.thenApplyOn;
+import static com.example.namoldak.util.async.AsyncSteps.thenComposeOn;
 
 // 기능 : OAuth.2.0 카카오 로그인
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoService {
-    private final PasswordEncoder passwordEncoder;
+    private final KakaoClient kakaoClient;
+    private final PasswordHasher passwordHasher;
     private final MemberQuery memberQuery;
     private final MemberCommand memberCommand;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final ThreadPoolTaskExecutor memberTaskExecutor;   // 카카오 응답 / 암호화 이후의 DB 작업용
 
-    @Value("${kakao.oauth2.client.id}")
-    String client_id;
-
-    public String kakaoLogin(String code, HttpServletResponse response) {
+    // 카카오 API 응답을 기다리는 동안 요청 스레드를 잡고 있지 않도록 비동기로 처리
+    // HTTP 클라이언트 스레드에서는 응답만 받고, 회원 조회 / 가입 / 토큰 발급은 memberTaskExecutor 에서 실행
+    public CompletableFuture<String> kakaoLogin(String code, HttpServletResponse response) {
         // 1. "인가 코드"로 "액세스 토큰" 요청
-        String kakaoAccessToken = getToken(code);
-
-        // 2. 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기
-        KakaoUserInfoDto kakaoUserInfo = getKakaoUserInfo(kakaoAccessToken);
-
-        // 3. 필요시에 회원가입
-        Member kakaoUser = registerKakaoUserIfNeeded(kakaoUserInfo);
-
-        // 4. 강제 로그인 처리
-        Authentication authentication = forceLogin(kakaoUser);
-
-        // 5. response Header에 JWT 토큰 추가
-        KakaoTokenDto tokenDto = jwtUtil.createAllToken(kakaoUserInfo.getEmail(), kakaoAccessToken);
-
-        if(refreshTokenService.existByEmail(kakaoUser.getEmail())){
-            RefreshToken refreshToken = refreshTokenService.findByEmail(kakaoUser.getEmail());
-            refreshTokenService.saveRefreshToken(refreshToken.updateToken(refreshToken.getRefreshToken()));
-        } else {
-            RefreshToken newToken = new RefreshToken(kakaoUserInfo.getEmail(),jwtUtil.createToken(kakaoUser.getEmail(), "Refresh"));
-            refreshTokenService.saveRefreshToken(newToken);
-        }
-
-        setHeader(response, tokenDto);
-
-        return kakaoUser.getNickname();
-    }
+        return kakaoClient.requestToken(code).thenCompose(kakaoAccessToken ->
+                // 2. 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기
+                thenComposeOn(kakaoClient.requestUserInfo(kakaoAccessToken), kakaoUserInfo ->
+                        // 3. 필요시에 회원가입
+                        thenApplyOn(registerKakaoUserIfNeeded(kakaoUserInfo), kakaoUser -> {
+                            // 4. response Header에 JWT 토큰 추가
+                            KakaoTokenDto tokenDto = jwtUtil.createAllToken(kakaoUserInfo.getEmail(), kakaoAccessToken);
 
-    // 1. "인가 코드"로 "액세스 토큰" 요청
-    private String getToken(String code) {
-        // HTTP Header 생성
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
+                            // 발급한 refreshToken 저장 (이미 있다면 덮어쓰기)
+                            refreshTokenService.upsert(kakaoUser.getEmail(), tokenDto.getRefreshToken());
 
-        // HTTP Body 생성
-        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-        body.add("grant_type", "authorization_code");
-        body.add("client_id", client_id); // REST API키
-        body.add("redirect_uri", "https://namoldak.com/login");
-        body.add("code", code);
-
-        // HTTP 요청 보내기
-        HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest =
-                new HttpEntity<>(body, headers);
-        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://kauth.kakao.com/oauth/token",
-                HttpMethod.POST,
-                kakaoTokenRequest,
-                String.class
-        );
-
-        try {
-            // HTTP 응답 (JSON) -> 액세스 토큰 파싱
-            String responseBody = response.getBody();
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(responseBody);
-            return jsonNode.get("access_token").asText();
-        } catch (JsonProcessingException e) {
-            throw new CustomException(JSON_PROCESS_FAILED);
-        }
+                            setHeader(response, tokenDto);
 
+                            return kakaoUser.getNickname();
+                        }, memberTaskExecutor), memberTaskExecutor));
     }
 
-    // 2. 토큰으로 카카오 API 호출 : "액세스 토큰"으로 "카카오 사용자 정보" 가져오기
-    private KakaoUserInfoDto getKakaoUserInfo(String accessToken) {
-        // HTTP Header 생성
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + accessToken);
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        // HTTP 요청 보내기
-        HttpEntity<MultiValueMap<String, String>> kakaoUserInfoRequest = new HttpEntity<>(headers);
-        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://kapi.kakao.com/v2/user/me",
-                HttpMethod.POST,
-                kakaoUserInfoRequest,
-                String.class
-        );
-
-        try {
-            String responseBody = response.getBody();
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(responseBody);
-            Long id = jsonNode.get("id").asLong();
-            String nickname = jsonNode.get("properties")
-                    .get("nickname").asText();
-            String email = jsonNode.get("kakao_account")
-                    .get("email").asText();
-
-            log.info("카카오 사용자 정보: " + id + ", " + nickname + ", " + email);
-            return new KakaoUserInfoDto(id, nickname, email);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(JSON_PROCESS_FAILED);
-        }
-    }
-
-    // 3. 필요시에 회원가입
-    private Member registerKakaoUserIfNeeded(KakaoUserInfoDto kakaoUserInfo) {
+    // 3. 필요시에 회원가입 (신규 회원의 임의 비밀번호 암호화는 PasswordHasher 스레드에서 실행)
+    private CompletableFuture<Member> registerKakaoUserIfNeeded(KakaoUserInfoDto kakaoUserInfo) {
         // DB 에 중복된 Kakao Id 가 있는지 확인
         Long kakaoId = kakaoUserInfo.getId();
-        Member kakaoUser;
-        if (!memberQuery.existMemberByKakaoId(kakaoId)) {
-            // 카카오 사용자 email 동일한 email 가진 회원이 있는지 확인
-            String kakaoEmail = kakaoUserInfo.getEmail();
-            if(memberQuery.existMemberByEmail(kakaoEmail)) {
-                kakaoUser = memberQuery.findMemberByEmail(kakaoEmail);
-            } else {
-                // 신규 회원가입
-                // password: random UUID
-                String password = UUID.randomUUID().toString();
-                String encodedPassword = passwordEncoder.encode(password);
-
-                // email: kakao email
-                String email = kakaoUserInfo.getEmail();
-
-                kakaoUser = new Member(email, encodedPassword, kakaoId, kakaoUserInfo.getNickname());
-            }
-            memberCommand.saveMember(kakaoUser);
-        } else {
-            kakaoUser = memberQuery.findMemberByKakaoId(kakaoId);
+        if (memberQuery.existMemberByKakaoId(kakaoId)) {
+            return CompletableFuture.completedFuture(memberQuery.findMemberByKakaoId(kakaoId));
         }
-        return kakaoUser;
-    }
-
-    // 4. 강제 로그인 처리
-    private Authentication forceLogin(Member kakaoUser) {
-        UserDetails userDetails = new UserDetailsImpl(kakaoUser, kakaoUser.getNickname());
-        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        return authentication;
+        // 카카오 사용자 email 동일한 email 가진 회원이 있는지 확인
+        String kakaoEmail = kakaoUserInfo.getEmail();
+        if (memberQuery.existMemberByEmail(kakaoEmail)) {
+            return CompletableFuture.completedFuture(memberQuery.findMemberByEmail(kakaoEmail));
+        }
+        // 신규 회원가입
+        // password: random UUID
+        String password = UUID.randomUUID().toString();
+        return thenApplyOn(passwordHasher.encode(password), encodedPassword -> {
+            // email: kakao email
+            Member kakaoUser = new Member(kakaoEmail, encodedPassword, kakaoId, kakaoUserInfo.getNickname());
+            memberCommand.saveMember(kakaoUser);
+            return kakaoUser;
+        }, memberTaskExecutor);
     }
 
-    // 5. response Header에 JWT 토큰 추가
+    // 4. response Header에 JWT 토큰 추가
     private boolean setHeader(HttpServletResponse response, KakaoTokenDto tokenDto) {
         response.addHeader(JwtUtil.ACCESS_TOKEN, tokenDto.getAccessToken());
         response.addHeader(JwtUtil.REFRESH_TOKEN, tokenDto.getRefreshToken());
@@ -0,0 +1,43 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domainModel.GameQuery;
+import com.example.namoldak.repository.KeywordDeckRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+// 기능 : 게임 키워드 덱 관리 (게임 시작 시 DB 조회 없이 메모리의 덱에서 뽑음)
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class KeywordService {
+    private final GameQuery gameQuery;
+    private final KeywordDeckRepository keywordDeckRepository;
+
+    // 서버 시작 시 덱 적재, 이후 주기적으로 키워드 테이블이 바뀌었는지 확인해서 바뀌었을 때만 다시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${namoldak.keyword.refresh-interval-ms:60000}", fixedDelayString = "${namoldak.keyword.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refreshDeck() {
+        // 상태를 먼저 읽어두므로 적재 도중 바뀐 내용은 다음 확인 때 다시 적재됨
+        String signature = gameQuery.findKeywordSignature();
+        if (signature.equals(keywordDeckRepository.getSignature())) {
+            return;
+        }
+        keywordDeckRepository.replace(gameQuery.findAllKeyword(), signature);
+        log.info("키워드 덱 적재 : " + signature);
+    }
+
+    // 카테고리에서 서로 다른 키워드 size 개 뽑기
+    public List<String> drawKeywords(String category, int size) {
+        if (!keywordDeckRepository.isLoaded()) {
+            refreshDeck();
+        }
+        return keywordDeckRepository.draw(category, size);
+    }
+}
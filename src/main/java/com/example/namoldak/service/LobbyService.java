@@ -0,0 +1,181 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domain.GameRoom;
+import com.example.namoldak.domain.GameRoomAttendee;
+import com.example.namoldak.domain.LobbyMessage;
+import com.example.namoldak.domain.Member;
+import com.example.namoldak.domainModel.GameQuery;
+import com.example.namoldak.dto.ResponseDto.GameRoomResponseDto;
+import com.example.namoldak.dto.ResponseDto.GameRoomResponseListDto;
+import com.example.namoldak.dto.ResponseDto.MemberResponseDto;
+import com.example.namoldak.repository.LobbyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+
+import static com.example.namoldak.util.transaction.TransactionHooks.afterCommit;
+
+// 기능 : 로비(게임룸 목록) 스냅샷 관리 및 변경분 전송
+// 게임룸 생성/입장/퇴장/게임 시작·종료 시 바뀐 방만 스냅샷에 반영하고 /sub/lobby 로 변경분을 보낸다
+// 스냅샷 반영은 트랜잭션 커밋 이후에 하므로 롤백된 변경은 로비에 보이지 않는다
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class LobbyService {
+    private static final int RELOAD_RETRY = 3;
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final GameQuery gameQuery;
+    private final LobbyRepository lobbyRepository;
+
+    // 로비 페이지 조회 (DB 조회 없이 스냅샷에서 응답)
+    public GameRoomResponseListDto getLobbyPage(Pageable pageable) {
+        if (!lobbyRepository.isLoaded()) {
+            reloadSnapshot();
+        }
+        long version = lobbyRepository.getVersion();
+        Page<GameRoomResponseDto> rooms = lobbyRepository.findAll(pageable);
+        return new GameRoomResponseListDto(rooms.getTotalPages(), rooms.getContent(), version);
+    }
+
+    // 게임룸 이름 검색 (DB 조회 없이 스냅샷의 n-gram 색인에서 응답)
+    public GameRoomResponseListDto searchLobby(Pageable pageable, String keyword) {
+        if (!lobbyRepository.isLoaded()) {
+            reloadSnapshot();
+        }
+        long version = lobbyRepository.getVersion();
+        Page<GameRoomResponseDto> rooms = lobbyRepository.search(keyword, pageable);
+        return new GameRoomResponseListDto(rooms.getTotalPages(), rooms.getContent(), version);
+    }
+
+    // 서버 시작 시 스냅샷 적재, 이후 주기적으로 DB와 다시 맞춤 (회원 탈퇴 등 로비를 거치지 않는 변경 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${namoldak.lobby.resync-interval-ms:60000}", fixedDelayString = "${namoldak.lobby.resync-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reloadSnapshot() {
+        for (int i = 0; i < RELOAD_RETRY; i++) {
+            long version = lobbyRepository.getVersion();
+            LobbyMessage lobbyMessage = lobbyRepository.replaceAll(getGameRoomResponseDtoList(gameQuery.findAllGameRoom()), version, false);
+            if (lobbyMessage != null) {
+                publish(lobbyMessage);
+                return;
+            }
+        }
+        // 변경이 계속 몰려서 맞추지 못했다면 그대로 덮어쓰고, 어긋난 부분은 다음 주기에 맞춤
+        log.info("로비 스냅샷 재적재 중 변경이 계속 발생하여 강제로 교체");
+        publish(lobbyRepository.replaceAll(getGameRoomResponseDtoList(gameQuery.findAllGameRoom()), 0L, true));
+    }
+
+    // 게임룸 생성
+    public void createRoom(GameRoom gameRoom, Member owner) {
+        List<MemberResponseDto> memberList = Collections.singletonList(new MemberResponseDto(owner));
+        GameRoomResponseDto room = toGameRoomResponseDto(gameRoom, memberList);
+        afterCommit(() -> publish(lobbyRepository.save(room)));
+    }
+
+    // 게임룸 입장
+    public void addMember(Long roomId, Member member) {
+        MemberResponseDto memberResponseDto = new MemberResponseDto(member);
+        afterCommit(() -> publish(lobbyRepository.update(roomId, room -> {
+            for (MemberResponseDto eachMember : room.getMember()) {
+                if (eachMember.getMemberId().equals(memberResponseDto.getMemberId())) {
+                    return room;
+                }
+            }
+            List<MemberResponseDto> memberList = new ArrayList<>(room.getMember());
+            memberList.add(memberResponseDto);
+            return withMemberList(room, memberList);
+        })));
+    }
+
+    // 게임룸 퇴장
+    public void removeMember(Long roomId, Long memberId) {
+        afterCommit(() -> publish(lobbyRepository.update(roomId, room -> {
+            List<MemberResponseDto> memberList = new ArrayList<>(room.getMember());
+            if (!memberList.removeIf(eachMember -> eachMember.getMemberId().equals(memberId))) {
+                return room;
+            }
+            return withMemberList(room, memberList);
+        })));
+    }
+
+    // 방장 변경
+    public void changeOwner(Long roomId, String owner) {
+        afterCommit(() -> publish(lobbyRepository.update(roomId, room ->
+                owner.equals(room.getOwner()) ? room : room.toBuilder().owner(owner).build())));
+    }
+
+    // 게임 시작(false) / 종료(true)
+    public void changeStatus(Long roomId, boolean status) {
+        afterCommit(() -> publish(lobbyRepository.update(roomId, room ->
+                room.isStatus() == status ? room : room.toBuilder().status(status).build())));
+    }
+
+    // 게임룸 삭제
+    public void deleteRoom(Long roomId) {
+        afterCommit(() -> publish(lobbyRepository.delete(roomId)));
+    }
+
+    // 게임룸 목록을 응답 Dto로 변환 (방마다 참가자, 멤버를 따로 조회하지 않고 한 번의 쿼리로 함께 조회)
+    private List<GameRoomResponseDto> getGameRoomResponseDtoList(List<GameRoom> rooms) {
+        List<Long> roomIdList = new ArrayList<>();
+        for (GameRoom room : rooms) {
+            roomIdList.add(room.getGameRoomId());
+        }
+
+        // 게임룸 Id 별로 참가 멤버 정보 모으기
+        Map<Long, List<MemberResponseDto>> memberListByRoomId = new HashMap<>();
+        for (GameRoomAttendee gameRoomAttendee : gameQuery.findAttendeeWithMemberByRoomIds(roomIdList)) {
+            memberListByRoomId.computeIfAbsent(gameRoomAttendee.getGameRoom().getGameRoomId(), id -> new ArrayList<>())
+                    .add(new MemberResponseDto(gameRoomAttendee.getMember()));
+        }
+
+        List<GameRoomResponseDto> gameRoomList = new ArrayList<>();
+        for (GameRoom room : rooms) {
+            List<MemberResponseDto> memberList = memberListByRoomId.get(room.getGameRoomId());
+
+            // 방에 멤버가 1명 이상인 경우에만 담아주기
+            if (memberList == null) {
+                continue;
+            }
+            gameRoomList.add(toGameRoomResponseDto(room, memberList));
+        }
+        return gameRoomList;
+    }
+
+    private GameRoomResponseDto toGameRoomResponseDto(GameRoom room, List<MemberResponseDto> memberList) {
+        return GameRoomResponseDto.builder()
+                .id(room.getGameRoomId())
+                .roomName(room.getGameRoomName())
+                .roomPassword(room.getGameRoomPassword())
+                .member(Collections.unmodifiableList(memberList))
+                .memberCnt(memberList.size())
+                .owner(room.getOwner())
+                .status(room.isStatus())
+                .build();
+    }
+
+    // 스냅샷의 DTO는 여러 스레드가 함께 읽으므로 고치지 않고 새로 만듦
+    private GameRoomResponseDto withMemberList(GameRoomResponseDto room, List<MemberResponseDto> memberList) {
+        return room.toBuilder()
+                .member(Collections.unmodifiableList(memberList))
+                .memberCnt(memberList.size())
+                .build();
+    }
+
+    // 로비 구독자에게 변경분 전송
+    private void publish(LobbyMessage lobbyMessage) {
+        if (lobbyMessage == null) {
+            return;
+        }
+        messagingTemplate.convertAndSend("/sub/lobby", lobbyMessage);
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.namoldak.service;
 
 import com.example.namoldak.domain.Member;
-import com.example.namoldak.domain.RefreshToken;
 import com.example.namoldak.domainModel.MemberCommand;
 import com.example.namoldak.domainModel.MemberQuery;
 import com.example.namoldak.dto.RequestDto.DeleteMemberRequestDto;
@@ -17,30 +16,37 @@ import com.example.namoldak.util.GlobalResponse.code.StatusCode;
 import com.example.namoldak.util.jwt.JwtUtil;
 import com.example.namoldak.util.jwt.TokenDto;
 import com.example.namoldak.util.security.UserDetailsImpl;
+import com.example.namoldak.util.security.PasswordHasher;
+import com.example.namoldak.util.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.namoldak.util.async.AsyncSteps.thenAcceptOn;
+import static com.example.namoldak.util.async.AsyncSteps.thenApplyOn;
+import static com.example.namoldak.util.transaction.TransactionHooks.afterCommit;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class MemberService {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
     private final MemberQuery memberQuery;
     private final MemberCommand memberCommand;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final ThreadPoolTaskExecutor memberTaskExecutor;   // 암호화 / 비교 이후의 DB 작업용
 
 
-    // 회원가입
-    @Transactional
-    public void signup(SignupRequestDto signupRequestDto){
+    // 회원가입 (비밀번호 암호화는 PasswordHasher 스레드, 저장은 memberTaskExecutor 에서 실행되고, 저장까지 끝나면 완료)
+    public CompletableFuture<Void> signup(SignupRequestDto signupRequestDto){
         String email = signupRequestDto.getEmail();
-        String password = passwordEncoder.encode(signupRequestDto.getPassword());
         String nickname = signupRequestDto.getNickname();
 
         if (memberQuery.MemberDuplicateByEmail(email)) {
@@ -51,33 +57,35 @@ public class MemberService {
             throw new CustomException(StatusCode.EXIST_NICKNAME);
         }
 
-        Member member = new Member(email, nickname, password);
-        memberCommand.saveMember(member);
+        return thenAcceptOn(passwordHasher.encode(signupRequestDto.getPassword()), password -> {
+            Member member = new Member(email, nickname, password);
+            memberCommand.saveMember(member);
+        }, memberTaskExecutor);
     }
 
-    // 로그인
-    @Transactional
-    public MemberResponseDto login(SignupRequestDto signupRequestDto, HttpServletResponse response) {
+    // 로그인 (비밀번호 비교는 PasswordHasher 스레드, 토큰 발급은 memberTaskExecutor 에서 실행)
+    public CompletableFuture<MemberResponseDto> login(SignupRequestDto signupRequestDto, HttpServletResponse response) {
         String email = signupRequestDto.getEmail();
         String password = signupRequestDto.getPassword();
 
         Member member = memberQuery.findMemberByEmail(email);
 
-        if (!passwordEncoder.matches(password, member.getPassword())) {
-            throw new CustomException(StatusCode.BAD_PASSWORD);
-        }
+        return thenApplyOn(passwordHasher.matches(password, member.getPassword()), matched -> {
+            if (!matched) {
+                throw new CustomException(StatusCode.BAD_PASSWORD);
+            }
+            return issueTokens(member, response);
+        }, memberTaskExecutor);
+    }
+
+    // 로그인 토큰 발급
+    private MemberResponseDto issueTokens(Member member, HttpServletResponse response) {
 
         // user email 값을 포함한 토큰 생성 후 tokenDto 에 저장
-        TokenDto tokenDto = jwtUtil.createAllToken(signupRequestDto.getEmail());
+        TokenDto tokenDto = jwtUtil.createAllToken(member.getEmail());
 
-        // user email 값에 해당하는 refreshToken 을 DB에서 가져옴
-        if (refreshTokenService.existByEmail(member.getEmail())) {
-            RefreshToken refreshToken = refreshTokenService.findByEmail(member.getEmail());
-            refreshTokenService.saveRefreshToken(refreshToken.updateToken(refreshToken.getRefreshToken()));
-        } else {
-            RefreshToken newToken = new RefreshToken(member.getEmail(),jwtUtil.createToken(member.getEmail(), "Refresh"));
-            refreshTokenService.saveRefreshToken(newToken);
-        }
+        // 발급한 refreshToken 저장 (이미 있다면 덮어쓰기)
+        refreshTokenService.upsert(member.getEmail(), tokenDto.getRefreshToken());
 
         setHeader(response, tokenDto);
 
@@ -101,18 +109,20 @@ public class MemberService {
         if (userDetails == null) {
             throw new CustomException(StatusCode.BAD_REQUEST_TOKEN);
         } else {
-            return new MyDataResponseDto(userDetails.getMember());
+            // 인증 정보는 캐시된 것이므로 전적은 DB에서 다시 조회
+            return new MyDataResponseDto(memberQuery.findMemberById(userDetails.getMember().getId()));
         }
     }
 
-    // 회원탈퇴
-    public void deleteMember(Member member, DeleteMemberRequestDto deleteMemberRequestDto) {
-        if (passwordEncoder.matches(deleteMemberRequestDto.getPassword(), member.getPassword())){
+    // 회원탈퇴 (비밀번호 비교는 PasswordHasher 스레드, 삭제는 memberTaskExecutor 에서 실행)
+    public CompletableFuture<Void> deleteMember(Member member, DeleteMemberRequestDto deleteMemberRequestDto) {
+        return thenAcceptOn(passwordHasher.matches(deleteMemberRequestDto.getPassword(), member.getPassword()), matched -> {
+            if (!matched) {
+                throw new CustomException(StatusCode.BAD_PASSWORD);
+            }
             // 코멘트 여부 확인
             memberCommand.removeMemberInfo(member);
-        } else {
-            throw new CustomException(StatusCode.BAD_PASSWORD);
-        }
+        }, memberTaskExecutor);
     }
 
     // 닉네임 변경
@@ -121,6 +131,8 @@ public class MemberService {
         Member member1 = memberQuery.findMemberById(member.getId());
         if(member.getId().equals(member1.getId())){
             member1.update(signupRequestDto);
+            // 캐시된 인증 정보에는 예전 닉네임이 있으므로 제거
+            afterCommit(() -> userDetailsService.evict(member1.getEmail()));
             return new PrivateResponseBody<>(StatusCode.OK,"닉네임 변경 완료");
         }else {
             throw new CustomException(StatusCode.LOGIN_MATCH_FAIL);
@@ -141,17 +153,10 @@ public class MemberService {
 
     // 로그아웃
     public ResponseEntity<GlobalResponseDto> logout(String email) {
-        // 해당 유저의 refreshtoken 이 없을 경우
-        if(!refreshTokenService.existByEmail(email)){
+        // 자신의 refreshtoken 만 삭제, 해당 유저의 refreshtoken 이 없을 경우 에러
+        if(!refreshTokenService.delete(email)){
             throw new CustomException(StatusCode.INVALID_TOKEN);
         }
-        // 자신의 refreshtoken 만 삭제 가능
-        String memberIdrepo = refreshTokenService.findByEmail(email).getEmail();
-        if(email.equals(memberIdrepo)){
-            refreshTokenService.deleteRefreshToken(email);
-            return ResponseUtil.response(StatusCode.LOGOUT_OK);
-        }else{
-            return ResponseUtil.response(StatusCode.BAD_REFRESH_TOKEN);
-        }
+        return ResponseUtil.response(StatusCode.LOGOUT_OK);
     }
 }
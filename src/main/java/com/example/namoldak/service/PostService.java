@@ -11,12 +11,15 @@ import com.example.namoldak.util.GlobalResponse.code.StatusCode;
 import com.example.namoldak.util.s3.AwsS3Uploader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +34,16 @@ public class PostService {
     private final ImageFileRepository imageFileRepository;
 
 
+    // 서버 시작 시 댓글 수 컬럼이 생기기 전에 작성된 게시글의 댓글 수 채우기 (이미 채워졌다면 바뀌는 행 없음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillCommentCount() {
+        int updated = postCommand.backfillCommentCount();
+        if (updated > 0) {
+            log.info("게시글 댓글 수 채우기 : " + updated + "건");
+        }
+    }
+
     // 포스트 생성
     @Transactional
     public PostResponseDto addPost(PostRequestDto postRequestDto, List<MultipartFile> multipartFilelist, Member member) {
@@ -53,30 +66,30 @@ public class PostService {
 
     // 자유게시판 전체 조회
     public PostResponseListDto getFreeBoard(Pageable pageable, String category) {
-        Page<Post> postList = postQuery.findAllByCategory(pageable, category);
-        List<Post> posts = postQuery.findAllByCategory(category);
+        Page<PostResponseDto> postList = postQuery.findAllByCategory(pageable, category);
 
-        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
-        for (Post post : postList) {
-            postResponseDtoList.add(new PostResponseDto(post));
-        }
+        List<PostResponseDto> postResponseDtoList = postList.getContent();
         int totalPage = postList.getTotalPages();
 
-        int postCnt = posts.size();
+        int postCnt = (int) postList.getTotalElements();
         return new PostResponseListDto(totalPage, postCnt, postResponseDtoList);
     }
 
+    // 자유게시판 무한 스크롤 조회 (마지막으로 본 게시글의 작성 시간, Id 이후부터)
+    public CursorResponseDto<PostResponseDto> getFreeBoardByCursor(String category, LocalDateTime createdAt, Long id, int size) {
+        int limit = CursorResponseDto.limitSize(size);
+        List<PostResponseDto> posts = postQuery.findCursorByCategory(category, createdAt, id, limit + 1);
+        return CursorResponseDto.of(posts, limit, PostResponseDto::getCreatedAt, PostResponseDto::getId);
+    }
+
     // 내가쓴피드백 전체 조회
     public PostResponseListDto getMyPost(Pageable pageable, Member member, String category) {
-        Page<Post> postList = postQuery.findAllByMemberAndCategoryOrderByCreatedAtDesc(pageable, member, category);
-        List<Post> posts = postQuery.findAllByMemberAndCategory(member, category); // memberid
+        // 페이지 조회 때 이미 센 전체 수를 그대로 사용
+        Page<PostResponseDto> postList = postQuery.findAllByMemberAndCategoryOrderByCreatedAtDesc(pageable, member, category);
 
-        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
-        for (Post post : postList) {
-            postResponseDtoList.add(new PostResponseDto(post));
-        }
+        List<PostResponseDto> postResponseDtoList = postList.getContent();
         int totalPage = postList.getTotalPages();
-        int postCnt = posts.size();
+        int postCnt = (int) postList.getTotalElements();
         return new PostResponseListDto(totalPage, postCnt, postResponseDtoList);
     }
 
@@ -137,7 +150,7 @@ public class PostService {
 
                 imageFileRepository.deleteAllByPost(post); // 게시글에 해당하는 이미지 파일 삭제
 
-                postCommand.deletePost(id);
+                postCommand.deletePost(post);
             } catch (CustomException e) {
                 throw new CustomException(StatusCode.FILE_DELETE_FAILED);
             }
@@ -146,12 +159,9 @@ public class PostService {
 
     // 게시글 키워드 검색
     public PostResponseListDto searchPosts(Pageable pageable, String category, String keyword) {
-        Page<Post> posts = postQuery.findByKeyword(pageable, category, keyword);
+        Page<PostResponseDto> posts = postQuery.findByKeyword(pageable, category, keyword);
 
-        List<PostResponseDto> postResponseDto = new ArrayList<>();
-        for (Post post : posts) {
-            postResponseDto.add(new PostResponseDto(post));
-        }
+        List<PostResponseDto> postResponseDto = posts.getContent();
 
         int totalPage = posts.getTotalPages();
         if (totalPage == 0) {
@@ -2,44 +2,97 @@ package com.example.namoldak.service;
 
 import com.example.namoldak.domain.RefreshToken;
 import com.example.namoldak.repository.RefreshTokenRepository;
-import com.example.namoldak.util.GlobalResponse.CustomException;
-import lombok.RequiredArgsConstructor;
+import com.example.namoldak.util.cluster.ClusterEventBus;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
 import org.springframework.stereotype.Service;
-
-import static com.example.namoldak.util.GlobalResponse.code.StatusCode.NOT_FOUND_REFRESHTOKEN;
+import javax.annotation.PostConstruct;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 // 기능 : Redis에 Refresh Token 저장
+// 자주 쓰는 토큰 비교는 서버 메모리의 캐시에서 처리하고, 로그인 / 로그아웃 시 다른 서버의 캐시도 Redis pub/sub 으로 무효화
+// Redis 에서 읽는 사이에 로그인 / 로그아웃으로 바뀌었다면 읽은 토큰이 캐시에 남지 않도록 email 별 세대 번호로 확인
 @Service
-@RequiredArgsConstructor
 public class RefreshTokenService {
+    private static final String INVALIDATE_TOPIC = "refresh-token";
+    // 세대 번호는 email 을 나눠 담음 (같은 칸의 다른 멤버가 바뀌면 한 번 더 조회할 뿐)
+    private static final int GENERATION_STRIPES = 1024;
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RedisKeyValueTemplate redisKeyValueTemplate;
+    private final ClusterEventBus clusterEventBus;
+    private final Cache<String, String> tokenByEmail;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               RedisKeyValueTemplate redisKeyValueTemplate,
+                               ClusterEventBus clusterEventBus,
+                               @Value("${namoldak.refresh-token.cache-size:10000}") long maximumSize,
+                               @Value("${namoldak.refresh-token.cache-ttl-seconds:600}") long ttlSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.redisKeyValueTemplate  = redisKeyValueTemplate;
+        this.clusterEventBus        = clusterEventBus;
+        this.tokenByEmail           = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
 
-    // 특정 RefreshToken 조회
-    public RefreshToken findByEmail(String email) {
-        return refreshTokenRepository.findById(email).orElseThrow(
-                () -> new CustomException(NOT_FOUND_REFRESHTOKEN)
-        );
+    // 다른 서버에서 로그인 / 로그아웃한 멤버의 캐시 무효화
+    @PostConstruct
+    public void init() {
+        clusterEventBus.subscribe(INVALIDATE_TOPIC, this::invalidateLocally);
     }
 
-    // 특정 RefreshToken 조회
-    public String findRefreshTokenByEmail(String email) {
-        return refreshTokenRepository.findById(email).orElseThrow(
-                () -> new CustomException(NOT_FOUND_REFRESHTOKEN)
-        ).getRefreshToken();
+    // 저장된 RefreshToken 과 같은지 비교 (캐시와 같다면 Redis 조회 없음, 다르거나 없을 때만 한 번 조회)
+    public boolean matches(String email, String token) {
+        if (token.equals(tokenByEmail.getIfPresent(email))) {
+            return true;
+        }
+        long generation = generations.get(stripe(email));
+        Optional<RefreshToken> stored = refreshTokenRepository.findById(email);
+        if (stored.isEmpty()) {
+            tokenByEmail.invalidate(email);
+            return false;
+        }
+        tokenByEmail.put(email, stored.get().getRefreshToken());
+        // 읽는 사이에 로그인 / 로그아웃했다면 방금 넣은 토큰은 지난 값이므로 지움
+        if (generations.get(stripe(email)) != generation) {
+            tokenByEmail.invalidate(email);
+        }
+        return token.equals(stored.get().getRefreshToken());
     }
-    
-    public boolean existByEmail(String email) {
-        return refreshTokenRepository.existsById(email);
+
+    // RefreshToken 저장 (있으면 덮어쓰기)
+    public void upsert(String email, String token) {
+        refreshTokenRepository.save(new RefreshToken(email, token));
+        generations.incrementAndGet(stripe(email));
+        tokenByEmail.put(email, token);
+        clusterEventBus.publish(INVALIDATE_TOPIC, email);
+    }
+
+    // RefreshToken 삭제 (저장된 토큰이 없었다면 false)
+    // Redis 에서 먼저 지운 뒤 캐시를 비워야 그 사이 조회한 토큰이 다시 캐시에 들어가지 않음
+    public boolean delete(String email) {
+        boolean deleted = redisKeyValueTemplate.delete(email, RefreshToken.class) != null;
+        invalidateLocally(email);
+        if (deleted) {
+            clusterEventBus.publish(INVALIDATE_TOPIC, email);
+        }
+        return deleted;
     }
 
-    // RefreshToken 저장
-    public void saveRefreshToken(RefreshToken refreshToken){
-        RefreshToken refreshToken1 = new RefreshToken(refreshToken.getEmail(), refreshToken.getRefreshToken());
-        refreshTokenRepository.save(refreshToken1);
+    // 세대 번호를 먼저 올려서 진행 중인 조회가 끝난 뒤 스스로 다시 무효화하도록 함
+    private void invalidateLocally(String email) {
+        generations.incrementAndGet(stripe(email));
+        tokenByEmail.invalidate(email);
     }
 
-    // RefreshToken 삭제
-    public void deleteRefreshToken(String email){
-        refreshTokenRepository.deleteById(email);
+    private static int stripe(String email) {
+        return email.hashCode() & (GENERATION_STRIPES - 1);
     }
-}
\ No newline at end of file
+}
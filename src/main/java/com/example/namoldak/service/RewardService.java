@@ -1,16 +1,22 @@
 package com.example.namoldak.service;
 
-import com.example.namoldak.domain.Member;
-import com.example.namoldak.domain.Reward;
+import com.example.namoldak.domain.*;
 import com.example.namoldak.domainModel.GameCommand;
 import com.example.namoldak.domainModel.GameQuery;
 import com.example.namoldak.dto.ResponseDto.RewardResponseDto;
+import com.example.namoldak.repository.RewardCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+
+import static com.example.namoldak.util.transaction.TransactionHooks.afterCommit;
 
 // 기능 : 리워드 서비스
 @Slf4j
@@ -19,68 +25,75 @@ import java.util.List;
 public class RewardService {
     private final GameCommand gameCommand;
     private final GameQuery gameQuery;
+    private final RewardCacheRepository rewardCacheRepository;
+    private volatile RewardRuleSet rewardRuleSet = new RewardRuleSet(defaultRules());
 
-    @Transactional
-    public boolean createWinReward(Member member) {
-        if (member.getWinNum() == 1) {
-            Reward reward = new Reward("병아리", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else if (member.getWinNum() == 40) {
-            Reward reward = new Reward("닭", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else if (member.getWinNum() == 60) {
-            Reward reward = new Reward("봉황", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else {
-            return false;
-        }
+    // 규칙 테이블이 비어 있을 때 넣는 기본 리워드 규칙 (저장하면 Id 가 채워지므로 부를 때마다 새로 만듦)
+    static List<RewardRule> defaultRules() {
+        return Arrays.asList(
+                new RewardRule(MemberCounter.WIN_NUM, 1L, "병아리"),
+                new RewardRule(MemberCounter.WIN_NUM, 40L, "닭"),
+                new RewardRule(MemberCounter.WIN_NUM, 60L, "봉황"),
+                new RewardRule(MemberCounter.LOSE_NUM, 1L, "병든 병아리"),
+                new RewardRule(MemberCounter.LOSE_NUM, 40L, "병든 닭"),
+                new RewardRule(MemberCounter.LOSE_NUM, 60L, "그는 좋은 닭이었습니다..."),
+                new RewardRule(MemberCounter.TOTAL_GAME_NUM, 1L, "게임에 중독된 병아리"),
+                new RewardRule(MemberCounter.TOTAL_GAME_NUM, 40L, "게임에 중독된 닭"),
+                new RewardRule(MemberCounter.TOTAL_GAME_NUM, 60L, "이제 그만 인생을 살아가세요 휴먼...")
+        );
     }
 
-    public boolean createLoseReward(Member member) {
-        if (member.getLoseNum() == 1) {
-            Reward reward = new Reward("병든 병아리", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else if (member.getLoseNum() == 40) {
-            Reward reward = new Reward("병든 닭", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else if (member.getLoseNum() == 60) {
-            Reward reward = new Reward("그는 좋은 닭이었습니다...", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else {
-            return false;
+    // 리워드 규칙 적재 (테이블이 비어 있다면 기본 규칙 저장), 이후 주기적으로 다시 읽어 추가된 규칙 반영
+    // 기본 규칙 저장은 saveAll 자체 트랜잭션에서 실행되므로, 여러 서버가 동시에 저장하다 (counter, threshold) 중복으로 실패해도
+    // 먼저 저장한 서버의 규칙을 다시 읽어서 사용
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${namoldak.reward.rule-refresh-interval-ms:300000}", fixedDelayString = "${namoldak.reward.rule-refresh-interval-ms:300000}")
+    public void reloadRules() {
+        List<RewardRule> rewardRuleList = gameQuery.findAllRewardRule();
+        if (rewardRuleList.isEmpty()) {
+            try {
+                rewardRuleList = gameCommand.saveRewardRules(defaultRules());
+            } catch (DataIntegrityViolationException e) {
+                log.info("다른 서버가 먼저 기본 리워드 규칙을 저장함 : " + e.getMessage());
+                rewardRuleList = gameQuery.findAllRewardRule();
+            }
         }
+        this.rewardRuleSet = new RewardRuleSet(rewardRuleList);
     }
 
-    public boolean createTotalGameReward(Member member) {
-        if (member.getTotalGameNum() == 1) {
-            Reward reward = new Reward("게임에 중독된 병아리", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else if (member.getTotalGameNum() == 40) {
-            Reward reward = new Reward("게임에 중독된 닭", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else if (member.getTotalGameNum() == 60) {
-            Reward reward = new Reward("이제 그만 인생을 살아가세요 휴먼...", member);
-            gameCommand.saveReward(reward);
-            return true;
-        } else {
-            return false;
+    // 전적 증가분으로 도달한 리워드를 모아서 한 번에 지급 (members 는 증가가 반영된 상태)
+    // 규칙은 카운터별 기준값 색인에서 한 번씩 찾고, 이미 받은 리워드는 다시 저장되지 않음
+    @Transactional
+    public int grantRewards(List<Member> members, Map<Long, ? extends Map<MemberCounter, Long>> deltasByMemberId) {
+        RewardRuleSet rules = this.rewardRuleSet;
+        List<Object[]> grants = new ArrayList<>();
+        for (Member member : members) {
+            for (Map.Entry<MemberCounter, Long> delta : deltasByMemberId.get(member.getId()).entrySet()) {
+                long after = delta.getKey().valueOf(member);
+                for (String rewardName : rules.match(delta.getKey(), after - delta.getValue(), after)) {
+                    grants.add(new Object[]{member.getId(), rewardName});
+                }
+            }
         }
+        gameCommand.saveRewardsIgnoringDuplicates(grants);
+
+        // 새로 리워드를 받은 멤버의 캐시 무효화
+        Set<Long> grantedMemberIds = new HashSet<>();
+        for (Object[] grant : grants) {
+            grantedMemberIds.add((Long) grant[0]);
+        }
+        afterCommit(() -> rewardCacheRepository.invalidateAll(grantedMemberIds));
+        return grants.size();
     }
 
+    // 멤버 리워드 목록 (캐시에 있다면 DB 조회 없음)
     public RewardResponseDto allRewardList(Member member) {
-        List<Reward> rewardList = gameQuery.findAllReward(member);
-        RewardResponseDto rewardResponseDto = new RewardResponseDto();
-        for (Reward reward : rewardList) {
-            rewardResponseDto.setRewardList(reward.getRewardName());
-        }
-        return rewardResponseDto;
+        return new RewardResponseDto(rewardCacheRepository.findOrLoad(member.getId(), () -> {
+            List<String> rewardNames = new ArrayList<>();
+            for (Reward reward : gameQuery.findAllReward(member)) {
+                rewardNames.add(reward.getRewardName());
+            }
+            return rewardNames;
+        }));
     }
 }
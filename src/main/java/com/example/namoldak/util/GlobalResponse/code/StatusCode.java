@@ -29,6 +29,7 @@ public enum StatusCode {
     UNAUTHORIZE(HttpStatus.UNAUTHORIZED, "124", "방장만이 게임 시작을 진행할 수 있습니다."),
     ALREADY_PLAYING(HttpStatus.BAD_REQUEST, "125", "게임이 시작해서 못 들어간닭!!"),
     NOT_ENOUGH_MEMBER(HttpStatus.BAD_REQUEST, "130", "게임 시작하기에 충분한 유저가 모이지 않았습니다."),
+    NOT_ENOUGH_KEYWORD(HttpStatus.BAD_REQUEST, "131", "참가자 수만큼 키워드가 준비되지 않았닭!!"),
     NOT_EXIST_ROOMS(HttpStatus.BAD_REQUEST, "132", "조건에 맞는 방이 존재하지 않습니다."),
     SIGNATURE_EXCEPTION(HttpStatus.BAD_REQUEST, "134", "JWT 서명에 문제가 발생했습니다."),
     JWT_EXCEPTION(HttpStatus.BAD_REQUEST, "135", "JWT 예외 응답 처리에 오류가 발생했습니다."),
@@ -42,6 +43,9 @@ public enum StatusCode {
     KEYWORD_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "검색 결과가 없습니다."),
     FILE_DELETE_FAILED(HttpStatus.NOT_FOUND, "404", "파일 삭제 실패"),
     FILE_CONVERT_FAILED(HttpStatus.NOT_FOUND, "404", "파일 전환 실패"),
+    KAKAO_LOGIN_FAILED(HttpStatus.BAD_GATEWAY, "502", "카카오 로그인에 실패했닭!! 잠시 후 다시 시도해달닭!!"),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "503", "로그인 요청이 많아서 잠시 후 다시 시도해야 한닭!!"),
+    MEMBER_TASK_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "503", "회원 요청이 많아서 잠시 후 다시 시도해야 한닭!!"),
 
     //TODO ========================= 성공 응답 코드 ===============================
 
@@ -0,0 +1,49 @@
+package com.example.namoldak.util.async;
+
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.MEMBER_TASK_BUSY;
+
+// 기능 : 앞 단계가 끝나면 이어지는 작업을 지정한 스레드 풀에서 실행
+// CompletableFuture 의 thenApplyAsync 는 풀이 작업을 받지 않으면 결과가 끝나지 않은 채 남으므로,
+// 풀이 가득 차면 앞 단계를 끝낸 스레드(비밀번호 암호화, HTTP 클라이언트)에서 대신 실행하지 않고 바로 실패 (503)
+@Slf4j
+public class AsyncSteps {
+
+    private AsyncSteps() {
+    }
+
+    // 풀에서 실행 (받지 않으면 실패한 결과)
+    public static <T> CompletableFuture<T> supplyOn(Supplier<T> task, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("회원 작업 대기열 초과 : " + e.getMessage());
+            return CompletableFuture.failedFuture(new CustomException(MEMBER_TASK_BUSY));
+        }
+    }
+
+    // 앞 단계의 결과로 풀에서 실행
+    public static <T, U> CompletableFuture<U> thenApplyOn(CompletableFuture<T> previous, Function<? super T, ? extends U> task, Executor executor) {
+        return previous.thenCompose(value -> supplyOn(() -> task.apply(value), executor));
+    }
+
+    public static <T> CompletableFuture<Void> thenAcceptOn(CompletableFuture<T> previous, Consumer<? super T> task, Executor executor) {
+        return thenApplyOn(previous, value -> {
+            task.accept(value);
+            return null;
+        }, executor);
+    }
+
+    // 앞 단계의 결과로 풀에서 다음 비동기 단계를 시작
+    public static <T, U> CompletableFuture<U> thenComposeOn(CompletableFuture<T> previous, Function<? super T, CompletableFuture<U>> task, Executor executor) {
+        return thenApplyOn(previous, task, executor).thenCompose(Function.identity());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.namoldak.util.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 기능 : 여러 서버(노드) 사이에 이벤트를 주고받는 Redis pub/sub 통로
+// 메세지 형식 : 보낸 노드 Id + 줄바꿈 + 내용, 자기 자신이 보낸 메세지는 다시 처리하지 않음
+// 리워드 캐시와 RefreshToken 캐시의 무효화가 항상 구독하므로 서버가 한 대여도 Redis 구독 연결은 하나 유지됨
+@Slf4j
+@Component
+public class ClusterEventBus implements MessageListener {
+    private static final String CHANNEL_PREFIX = "namoldak:cluster:";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<String, List<Consumer<String>>> handlersByChannel = new ConcurrentHashMap<>();
+
+    public ClusterEventBus(StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate           = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    // 모든 노드가 받는 topic 구독
+    public void subscribe(String topic, Consumer<String> handler) {
+        addHandler(CHANNEL_PREFIX + topic, handler);
+    }
+
+    // 다른 모든 노드에게 전송
+    public void publish(String topic, String payload) {
+        stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + topic, nodeId + '\n' + payload);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        // 자기 자신이 보낸 메세지
+        if (separator < 0 || nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        String payload = body.substring(separator + 1);
+        for (Consumer<String> handler : handlersByChannel.getOrDefault(channel, List.of())) {
+            try {
+                handler.accept(payload);
+            } catch (RuntimeException e) {
+                log.info("============== 클러스터 이벤트 처리 실패 ({}) : {}", channel, e.getMessage());
+            }
+        }
+    }
+
+    private void addHandler(String channel, Consumer<String> handler) {
+        handlersByChannel.computeIfAbsent(channel, key -> {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(key));
+            return new CopyOnWriteArrayList<>();
+        }).add(handler);
+    }
+}
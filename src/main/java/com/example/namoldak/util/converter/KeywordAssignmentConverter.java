@@ -0,0 +1,72 @@
+package com.example.namoldak.util.converter;
+
+import com.example.namoldak.domain.KeywordAssignment;
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.JSON_PROCESS_FAILED;
+
+// 기능 : KeywordAssignment <-> DB 컬럼 문자열 전환
+// 저장 형식 : GS 2 닉네임 US 키워드 RS 닉네임 US 키워드 ... (GS = \u001D, US = \u001F, RS = \u001E, 닉네임/키워드에 쓰이지 않는 제어문자)
+// 앞의 GS 2 가 형식 표시이고, 표시가 없는 값은 예전 JSON 형식({"닉네임":"키워드"})으로 읽음 (닉네임 첫 글자로 형식을 추측하지 않음)
+// 예전 형식으로 저장된 game_start_set 행도 그대로 읽을 수 있고, 다시 저장될 때 새 형식으로 바뀐다
+@Converter
+public class KeywordAssignmentConverter implements AttributeConverter<KeywordAssignment, String> {
+    private static final String FORMAT_MARKER = "\u001D2";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(KeywordAssignment keywordAssignment) {
+        if (keywordAssignment == null) {
+            return null;
+        }
+        StringBuilder column = new StringBuilder(FORMAT_MARKER);
+        for (Map.Entry<String, String> entry : keywordAssignment.asMap().entrySet()) {
+            if (column.length() > FORMAT_MARKER.length()) {
+                column.append(RECORD_SEPARATOR);
+            }
+            column.append(entry.getKey()).append(FIELD_SEPARATOR).append(entry.getValue());
+        }
+        return column.toString();
+    }
+
+    @Override
+    public KeywordAssignment convertToEntityAttribute(String column) {
+        if (column == null) {
+            return null;
+        }
+        // 형식 표시가 없다면 예전 JSON 형식으로 저장된 행
+        if (!column.startsWith(FORMAT_MARKER)) {
+            return fromLegacyJson(column);
+        }
+
+        Map<String, String> keywordByNickname = new LinkedHashMap<>();
+        int start = FORMAT_MARKER.length();
+        while (start < column.length()) {
+            int end = column.indexOf(RECORD_SEPARATOR, start);
+            if (end < 0) {
+                end = column.length();
+            }
+            int separator = column.indexOf(FIELD_SEPARATOR, start);
+            keywordByNickname.put(column.substring(start, separator), column.substring(separator + 1, end));
+            start = end + 1;
+        }
+        return KeywordAssignment.of(keywordByNickname);
+    }
+
+    private KeywordAssignment fromLegacyJson(String column) {
+        try {
+            return KeywordAssignment.of(objectMapper.readValue(column, new TypeReference<LinkedHashMap<String, String>>() {}));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(JSON_PROCESS_FAILED);
+        }
+    }
+}
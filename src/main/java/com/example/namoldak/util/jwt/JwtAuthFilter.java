@@ -28,20 +28,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String refreshToken = jwtUtil.getHeaderToken(request, "Refresh");
 
         if (accessToken != null) {
-            // accessToken 검증
-            if (!jwtUtil.validateToken(accessToken)) {
-                jwtExceptionHandler(response, "AccessToken Expired", HttpStatus.UNAUTHORIZED);
-                return;
-            }
-            setAuthentication(jwtUtil.getUserInfoFromToken(accessToken));
+            // accessToken 검증과 동시에 토큰의 정보를 가져와 Authentication 에 세팅 (한 번만 파싱)
+            setAuthentication(jwtUtil.validateAndGetClaims(accessToken).getSubject());
         } else if (refreshToken != null) {
-            // refreshToken 검증
-            if (!jwtUtil.refreshTokenValidation(refreshToken)) {
+            // refreshToken 검증 (한 번만 파싱)
+            String email = jwtUtil.validateAndGetClaims(refreshToken).getSubject();
+            if (!jwtUtil.isStoredRefreshToken(email, refreshToken)) {
                 jwtExceptionHandler(response, "RefreshToken Expired", HttpStatus.UNAUTHORIZED);
                 return;
             }
             // 토큰이 유효하다면 토큰에서 정보를 가져와 Authentication 에 세팅
-            setAuthentication(jwtUtil.getUserInfoFromToken(refreshToken));
+            setAuthentication(email);
         }
         // 다음 필터로 넘어간다
         filterChain.doFilter(request, response);
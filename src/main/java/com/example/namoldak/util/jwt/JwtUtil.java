@@ -3,6 +3,8 @@ package com.example.namoldak.util.jwt;
 import com.example.namoldak.service.RefreshTokenService;
 import com.example.namoldak.util.GlobalResponse.CustomException;
 import com.example.namoldak.util.security.UserDetailsServiceImpl;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +16,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.*;
 
 // 기능 : JWT 유틸
@@ -33,13 +39,25 @@ public class JwtUtil {
     public static final String KAKAO_TOKEN = "KakaoToken";  // 연결끊기용으로 사용할 카카오 엑세스 토큰
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // 최근 검증한 토큰 캐시 크기 (0 이면 사용하지 않음)
+    @Value("${namoldak.jwt.verified-cache-size:10000}")
+    private long verifiedCacheSize;
     private Key key;
+    private JwtParser jwtParser;    // 스레드 안전하므로 하나를 만들어 계속 사용
+    private Cache<String, Claims> verifiedClaimsByTokenHash;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        if (verifiedCacheSize > 0) {
+            verifiedClaimsByTokenHash = CacheBuilder.newBuilder()
+                    .maximumSize(verifiedCacheSize)
+                    .expireAfterWrite(ACCESS_TIME, TimeUnit.MILLISECONDS)
+                    .build();
+        }
     }
 
     // header 토큰을 가져오는 기능
@@ -72,11 +90,30 @@ public class JwtUtil {
                 .compact();
     }
 
-    // 토큰 검증
-    public boolean validateToken(String token) {
+    // 토큰 검증 후 Claims 반환 (한 번만 파싱)
+    // 최근 검증한 토큰이라면 서명 확인 없이 캐시된 Claims 를 쓰되, 만료 시간은 매번 확인
+    public Claims validateAndGetClaims(String token) {
+        String tokenHash = verifiedClaimsByTokenHash == null ? null : hash(token);
+        if (tokenHash != null) {
+            Claims cached = verifiedClaimsByTokenHash.getIfPresent(tokenHash);
+            if (cached != null) {
+                if (cached.getExpiration().after(new Date())) {
+                    return cached;
+                }
+                verifiedClaimsByTokenHash.invalidate(tokenHash);
+            }
+        }
+
+        Claims claims = parseClaims(token);
+        if (tokenHash != null) {
+            verifiedClaimsByTokenHash.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             throw new CustomException(LOGIN_WRONG_SIGNATURE_JWT_TOKEN);
         } catch (ExpiredJwtException e) {
@@ -90,25 +127,38 @@ public class JwtUtil {
         }
     }
 
+    // 토큰 원문 대신 SHA-256 값으로 캐시
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 토큰 검증
+    public boolean validateToken(String token) {
+        validateAndGetClaims(token);
+        return true;
+    }
+
     // refreshToken 토큰 검증
     public boolean refreshTokenValidation(String token) {
 
         // 1차 토큰 검증
-        if (!validateToken(token)){
-            return false;
-        }
+        String email = validateAndGetClaims(token).getSubject();
+        return isStoredRefreshToken(email, token);
+    }
 
-        String email = getUserInfoFromToken(token);
-        // DB에 저장한 토큰 비교
-        if(refreshTokenService.existByEmail(email)){
-            return token.equals(refreshTokenService.findRefreshTokenByEmail(email));
-        }
-        return false;
+    // 저장된 refreshToken 과 비교 (토큰 검증은 이미 끝난 상태)
+    public boolean isStoredRefreshToken(String email, String token) {
+        return refreshTokenService.matches(email, token);
     }
 
     // 토큰에서 loginId 가져오는 기능
     public String getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        return validateAndGetClaims(token).getSubject();
     }
 
     // 인증 객체 생성
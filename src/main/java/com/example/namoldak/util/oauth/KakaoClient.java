@@ -0,0 +1,121 @@
+package com.example.namoldak.util.oauth;
+
+import com.example.namoldak.dto.RequestDto.KakaoUserInfoDto;
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.JSON_PROCESS_FAILED;
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.KAKAO_LOGIN_FAILED;
+
+// 기능 : 카카오 OAuth API 호출
+// HttpClient 하나를 공유해서 연결을 재사용(keep-alive)하고, 연결 / 응답 시간 제한을 두며, 응답을 기다리는 동안 스레드를 잡고 있지 않음
+@Slf4j
+@Component
+public class KakaoClient {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI tokenUri;
+    private final URI userInfoUri;
+    private final String redirectUri;
+    private final String clientId;
+    private final Duration requestTimeout;
+
+    public KakaoClient(ObjectMapper objectMapper,
+                       @Value("${kakao.oauth2.client.id}") String clientId,
+                       @Value("${kakao.oauth2.token-uri:https://kauth.kakao.com/oauth/token}") String tokenUri,
+                       @Value("${kakao.oauth2.user-info-uri:https://kapi.kakao.com/v2/user/me}") String userInfoUri,
+                       @Value("${kakao.oauth2.redirect-uri:https://namoldak.com/login}") String redirectUri,
+                       @Value("${kakao.oauth2.connect-timeout-ms:2000}") long connectTimeoutMs,
+                       @Value("${kakao.oauth2.request-timeout-ms:3000}") long requestTimeoutMs) {
+        this.objectMapper   = objectMapper;
+        this.clientId       = clientId;
+        this.tokenUri       = URI.create(tokenUri);
+        this.userInfoUri    = URI.create(userInfoUri);
+        this.redirectUri    = redirectUri;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.httpClient     = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    // "인가 코드"로 "액세스 토큰" 요청
+    public CompletableFuture<String> requestToken(String code) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", "authorization_code");
+        form.put("client_id", clientId); // REST API키
+        form.put("redirect_uri", redirectUri);
+        form.put("code", code);
+
+        HttpRequest request = HttpRequest.newBuilder(tokenUri)
+                .timeout(requestTimeout)
+                .header("Content-type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(encodeForm(form)))
+                .build();
+
+        return send(request).thenApply(jsonNode -> jsonNode.get("access_token").asText());
+    }
+
+    // "액세스 토큰"으로 "카카오 사용자 정보" 요청
+    public CompletableFuture<KakaoUserInfoDto> requestUserInfo(String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(userInfoUri)
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        return send(request).thenApply(jsonNode -> {
+            Long id = jsonNode.get("id").asLong();
+            String nickname = jsonNode.get("properties").get("nickname").asText();
+            String email = jsonNode.get("kakao_account").get("email").asText();
+
+            log.info("카카오 사용자 정보: " + id + ", " + nickname + ", " + email);
+            return new KakaoUserInfoDto(id, nickname, email);
+        });
+    }
+
+    // 요청 전송 후 JSON 응답 파싱 (연결 실패, 시간 초과, 2xx 가 아닌 응답은 모두 카카오 로그인 실패)
+    private CompletableFuture<JsonNode> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("카카오 API 호출 실패 : " + request.uri() + " " + e.getMessage());
+                        throw new CustomException(KAKAO_LOGIN_FAILED);
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        log.error("카카오 API 응답 오류 : " + request.uri() + " " + response.statusCode());
+                        throw new CustomException(KAKAO_LOGIN_FAILED);
+                    }
+                    try {
+                        return objectMapper.readTree(response.body());
+                    } catch (JsonProcessingException jsonProcessingException) {
+                        throw new CustomException(JSON_PROCESS_FAILED);
+                    }
+                });
+    }
+
+    private static String encodeForm(Map<String, String> form) {
+        StringJoiner body = new StringJoiner("&");
+        for (Map.Entry<String, String> entry : form.entrySet()) {
+            body.add(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        return body.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.namoldak.util.search;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 기능 : 문자열 부분 검색용 n-gram 색인 (한 글자 + 두 글자 단위)
+// 한글은 음절 하나가 한 글자이므로 형태소 분석 없이 두 글자 단위로 잘라도 부분 검색이 잘 맞는다
+// 검색어의 n-gram 이 모두 들어있는 후보만 추린 뒤 실제 포함 여부를 한 번 더 확인하므로 LIKE '%검색어%' 와 결과가 같다
+public class NgramIndex {
+    private final Map<String, Set<Long>> idsByGram = new ConcurrentHashMap<>();
+    private final Map<Long, String> textById = new ConcurrentHashMap<>();
+
+    // 색인 추가
+    public void add(Long id, String text) {
+        String normalized = normalize(text);
+        textById.put(id, normalized);
+        for (String gram : getGrams(normalized)) {
+            idsByGram.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    // 색인 삭제
+    public void remove(Long id) {
+        String normalized = textById.remove(id);
+        if (normalized == null) {
+            return;
+        }
+        for (String gram : getGrams(normalized)) {
+            idsByGram.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    // 검색어를 포함하는 Id 목록 (Id 내림차순), 검색어가 비어있으면 전체
+    public List<Long> search(String keyword) {
+        List<Long> result = new ArrayList<>();
+        if (keyword == null || keyword.isEmpty()) {
+            result.addAll(textById.keySet());
+        } else {
+            String normalized = normalize(keyword);
+
+            // 가장 짧은 색인 목록을 후보로 삼음
+            Set<Long> candidates = null;
+            for (String gram : getQueryGrams(normalized)) {
+                Set<Long> ids = idsByGram.get(gram);
+                if (ids == null) {
+                    return result;
+                }
+                if (candidates == null || ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+            for (Long id : candidates) {
+                String text = textById.get(id);
+                if (text != null && text.contains(normalized)) {
+                    result.add(id);
+                }
+            }
+        }
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+
+    private String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    // 색인할 n-gram : 모든 한 글자 + 모든 두 글자
+    private Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색할 n-gram : 한 글자 검색어는 그대로, 그 외에는 두 글자씩
+    private Set<String> getQueryGrams(String keyword) {
+        if (keyword.length() == 1) {
+            return Collections.singleton(keyword);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
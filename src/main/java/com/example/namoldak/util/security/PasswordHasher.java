@@ -0,0 +1,68 @@
+package com.example.namoldak.util.security;
+
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.example.namoldak.util.GlobalResponse.code.StatusCode.PASSWORD_HASHING_BUSY;
+
+// 기능 : 비밀번호 암호화 / 비교를 전용 스레드에서 실행
+// BCrypt 는 일부러 느리게 만든 연산이라 요청 스레드에서 돌리면 로그인이 몰릴 때 게임 API 까지 밀리므로
+// 코어 수만큼의 스레드와 길이 제한이 있는 대기열에서 처리하고, 대기열이 가득 차면 기다리지 않고 바로 실패
+@Slf4j
+@Component
+public class PasswordHasher {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${namoldak.password.threads:0}") int threads,
+                          @Value("${namoldak.password.queue-limit:64}") int queueLimit) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNum = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueLimit),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNum.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 비밀번호 암호화
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 비교
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 처리 대기 중인 요청 수
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 처리 대기열 초과 : " + executor.getQueue().size());
+            return CompletableFuture.failedFuture(new CustomException(PASSWORD_HASHING_BUSY));
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+}
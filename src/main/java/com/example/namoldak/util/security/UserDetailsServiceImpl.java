@@ -3,24 +3,54 @@ package com.example.namoldak.util.security;
 import com.example.namoldak.domain.Member;
 import com.example.namoldak.repository.MemberRepository;
 import com.example.namoldak.util.GlobalResponse.CustomException;
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.LOGIN_MATCH_FAIL;
 
 // 기능 : 로그인시 DB에서 해당 유저 체크
+// 인증된 요청마다 멤버를 다시 조회하지 않도록 이메일별 인증 정보를 잠깐 캐시 (닉네임 변경, 회원탈퇴 시 제거)
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final MemberRepository memberRepository;
+    private final Cache<String, UserDetailsImpl> principalByEmail;
+
+    public UserDetailsServiceImpl(MemberRepository memberRepository,
+                                  @Value("${namoldak.auth.principal-cache-size:10000}") long maximumSize,
+                                  @Value("${namoldak.auth.principal-cache-ttl-seconds:60}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.principalByEmail = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) {
-        Member member = memberRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(LOGIN_MATCH_FAIL)
-        );
-        return new UserDetailsImpl(member, member.getEmail());
+        try {
+            return principalByEmail.get(email, () -> {
+                Member member = memberRepository.findByEmail(email).orElseThrow(
+                        () -> new CustomException(LOGIN_MATCH_FAIL)
+                );
+                return new UserDetailsImpl(member, member.getEmail());
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 캐시된 인증 정보 제거 (다음 요청에서 DB에서 다시 조회)
+    public void evict(String email) {
+        principalByEmail.invalidate(email);
     }
 }
@@ -0,0 +1,40 @@
+package com.example.namoldak.util.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 기능 : 트랜잭션 결과에 맞춰 메모리 상태를 반영하기 위한 콜백 등록
+// 트랜잭션 밖에서 호출되면 커밋된 것으로 보고 바로 실행
+public class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 커밋 이후 실행
+    public static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 롤백 이후 실행
+    public static void afterRollback(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        task.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.namoldak.util.webSocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 기능 : 세션별 발신 대기열 (ConcurrentWebSocketSessionDecorator 와 비슷한 역할)
+// sendMessage 는 대기열에 넣기만 하고 바로 반환, 실제 전송은 공용 Executor 에서 세션당 하나의 작업이 순서대로 처리
+// 느린 클라이언트가 있어도 수신 스레드나 같은 방의 다른 참가자가 기다리지 않고, 한 세션에 동시에 보내는 일도 없다
+// 전송 하나가 sendTimeLimit 을 넘겨 멈춰 있으면 세션을 닫아서 전송 스레드를 돌려받는다
+@Slf4j
+public class OutboundSessionQueue extends WebSocketSessionDecorator {
+
+    // 대기열이 가득 찼을 때의 처리 방법
+    public enum OverflowPolicy {
+        DROP_OLDEST_CANDIDATE,  // 가장 오래된 candidate 를 버림 (버릴 candidate 가 없다면 세션 종료)
+        CLOSE                   // 세션 종료
+    }
+
+    private final Deque<Outbound> queue = new ArrayDeque<>();
+    private final int limit;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor drainExecutor;
+    private final long sendTimeLimitNanos;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong sentCnt = new AtomicLong();
+    private final AtomicLong droppedCnt = new AtomicLong();
+    private volatile int maxBacklog;
+    private volatile boolean discarded;
+    private volatile boolean sending;           // 지금 전송 중인지
+    private volatile long sendStartNanos;       // 지금 전송을 시작한 시각
+
+    public OutboundSessionQueue(WebSocketSession session, int limit, OverflowPolicy overflowPolicy, Executor drainExecutor, long sendTimeLimitMillis) {
+        super(session);
+        this.limit              = limit;
+        this.overflowPolicy     = overflowPolicy;
+        this.drainExecutor      = drainExecutor;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+    }
+
+    // 일반 메세지 전송 (대기열이 가득 차도 버리지 않음)
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        enqueue(message, false);
+    }
+
+    // candidate 전송 (대기열이 가득 차면 버려질 수 있음)
+    public void sendCandidate(WebSocketMessage<?> message) {
+        enqueue(message, true);
+    }
+
+    private void enqueue(WebSocketMessage<?> message, boolean candidate) {
+        if (discarded || checkSendTimeLimit()) {
+            return;
+        }
+        boolean overflow = false;
+        synchronized (queue) {
+            if (queue.size() >= limit && !makeRoom(candidate)) {
+                if (overflowPolicy == OverflowPolicy.DROP_OLDEST_CANDIDATE && candidate) {
+                    // 대기열에 candidate 가 없다면 지금 들어온 candidate 가 버릴 대상
+                    droppedCnt.incrementAndGet();
+                    return;
+                }
+                overflow = true;
+                discarded = true;
+                queue.clear();
+            } else {
+                queue.addLast(new Outbound(message, candidate));
+                maxBacklog = Math.max(maxBacklog, queue.size());
+            }
+        }
+        if (overflow) {
+            log.info("============== 발신 대기열 초과로 세션 종료 : {} (대기 한도 {})", getId(), limit);
+            closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+            return;
+        }
+        scheduleDrain();
+    }
+
+    // 대기열 정책에 따라 자리 마련, 자리를 만들었다면 true
+    private boolean makeRoom(boolean candidate) {
+        if (overflowPolicy != OverflowPolicy.DROP_OLDEST_CANDIDATE) {
+            return false;
+        }
+        Iterator<Outbound> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().candidate) {
+                iterator.remove();
+                droppedCnt.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                drainExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.info("============== 발신 작업 등록 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    // 대기열이 빌 때까지 순서대로 전송
+    private void drain() {
+        while (true) {
+            Outbound outbound;
+            synchronized (queue) {
+                outbound = queue.pollFirst();
+                if (outbound == null) {
+                    // 대기열을 비운 것을 확인한 뒤에 drain 종료 표시 (그 사이 들어온 메세지는 다시 drain 을 등록함)
+                    draining.set(false);
+                    return;
+                }
+            }
+            sendStartNanos = System.nanoTime();
+            sending = true;
+            try {
+                getDelegate().sendMessage(outbound.message);
+                sentCnt.incrementAndGet();
+            } catch (IOException | IllegalStateException e) {
+                log.info("============== 발생한 에러 메세지: {}", e.getMessage());
+            } finally {
+                sending = false;
+            }
+        }
+    }
+
+    // 전송 하나가 제한 시간을 넘겨 멈춰 있다면 세션 종료, 종료했다면 true
+    // 세션이 닫히면 멈춰 있던 전송은 실패하고, 대기열은 비워졌으므로 drain 스레드도 바로 돌아감
+    public boolean checkSendTimeLimit() {
+        if (!sending || discarded || System.nanoTime() - sendStartNanos < sendTimeLimitNanos) {
+            return false;
+        }
+        log.info("============== 전송 시간 초과로 세션 종료 : {} (제한 {}ms)", getId(), TimeUnit.NANOSECONDS.toMillis(sendTimeLimitNanos));
+        discard();
+        closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+        return true;
+    }
+
+    // 연결이 끊어진 세션의 대기열 정리
+    public void discard() {
+        discarded = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    private void closeQuietly(CloseStatus closeStatus) {
+        try {
+            getDelegate().close(closeStatus);
+        } catch (IOException e) {
+            log.info("============== 세션 종료 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 현재 대기 중인 메세지 수
+    public int getBacklog() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    // 가장 많이 쌓였던 대기 메세지 수
+    public int getMaxBacklog() {
+        return maxBacklog;
+    }
+
+    public long getSentCount() {
+        return sentCnt.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCnt.get();
+    }
+
+    private static class Outbound {
+        private final WebSocketMessage<?> message;
+        private final boolean candidate;
+
+        private Outbound(WebSocketMessage<?> message, boolean candidate) {
+            this.message   = message;
+            this.candidate = candidate;
+        }
+    }
+}
@@ -7,16 +7,29 @@ import com.example.namoldak.service.GameRoomService;
 import com.example.namoldak.util.GlobalResponse.CustomException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.transaction.Transactional;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
 
 import static com.example.namoldak.util.GlobalResponse.code.StatusCode.SESSION_ROOM_NOT_FOUND;
 
@@ -34,9 +47,89 @@ public class SignalHandler extends TextWebSocketHandler {
     private static final String MSG_TYPE_ANSWER = "answer";
     private static final String MSG_TYPE_CANDIDATE = "candidate";
 
+    // 세션별 발신 대기열 설정
+    @Value("${namoldak.signal.outbound-queue-limit:256}")
+    private int outboundQueueLimit;
+    @Value("${namoldak.signal.overflow-policy:DROP_OLDEST_CANDIDATE}")
+    private OutboundSessionQueue.OverflowPolicy overflowPolicy;
+    @Value("${namoldak.signal.drain-threads:16}")
+    private int drainThreads;
+    @Value("${namoldak.signal.send-time-limit-ms:5000}")
+    private long sendTimeLimitMillis;
+    private ExecutorService drainExecutor;
+    private final Map<String, OutboundSessionQueue> outboundQueues = new ConcurrentHashMap<>();
+    // 이미 끊어진 세션까지 합친 발신 통계
+    private final AtomicLong closedDroppedCnt = new AtomicLong();
+    private final AtomicLong sendTimeoutCnt = new AtomicLong();
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNum = new AtomicInteger();
+        drainExecutor = Executors.newFixedThreadPool(drainThreads, runnable -> {
+            Thread thread = new Thread(runnable, "signal-send-" + threadNum.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        registerMetrics();
+    }
+
+    // 발신 대기열 지표 (세션마다 지표를 만들지 않고 전체 합계와 가장 많이 쌓인 세션의 값만 노출)
+    private void registerMetrics() {
+        Gauge.builder("signal.outbound.sessions", outboundQueues, Map::size)
+                .description("발신 대기열이 있는 시그널링 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("signal.outbound.backlog", this, handler -> handler.sumOutbound(OutboundSessionQueue::getBacklog))
+                .description("모든 세션의 발신 대기 메세지 수 합계")
+                .register(meterRegistry);
+        Gauge.builder("signal.outbound.backlog.max", this, SignalHandler::getLargestBacklog)
+                .description("발신 대기 메세지가 가장 많은 세션의 대기 메세지 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("signal.outbound.dropped", this,
+                        handler -> handler.closedDroppedCnt.get() + handler.sumOutbound(OutboundSessionQueue::getDroppedCount))
+                .description("대기열이 가득 차서 버린 candidate 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("signal.outbound.send-timeout", sendTimeoutCnt, AtomicLong::get)
+                .description("전송 시간 초과로 닫은 세션 수")
+                .register(meterRegistry);
+    }
+
+    private double sumOutbound(ToLongFunction<OutboundSessionQueue> value) {
+        long sum = 0;
+        for (OutboundSessionQueue outboundQueue : outboundQueues.values()) {
+            sum += value.applyAsLong(outboundQueue);
+        }
+        return sum;
+    }
+
+    private double getLargestBacklog() {
+        int largest = 0;
+        for (OutboundSessionQueue outboundQueue : outboundQueues.values()) {
+            largest = Math.max(largest, outboundQueue.getBacklog());
+        }
+        return largest;
+    }
+
+    // 전송이 멈춘 채로 새 메세지가 오지 않는 세션도 닫을 수 있도록 주기적으로 전송 시간 확인
+    @Scheduled(fixedDelayString = "${namoldak.signal.send-time-check-ms:1000}")
+    public void checkSendTimeLimits() {
+        for (OutboundSessionQueue outboundQueue : outboundQueues.values()) {
+            if (outboundQueue.checkSendTimeLimit()) {
+                sendTimeoutCnt.incrementAndGet();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        drainExecutor.shutdownNow();
+    }
+
     @Override
     public void afterConnectionEstablished(final WebSocketSession session) {
-        // 웹소켓이 연결되면 실행되는 메소드
+        // 웹소켓이 연결되면 실행되는 메소드 : 발신 대기열 준비
+        getOutboundQueue(session);
     }
 
     // 시그널링 처리 메소드
@@ -44,23 +137,18 @@ public class SignalHandler extends TextWebSocketHandler {
     protected void handleTextMessage(final WebSocketSession session, final TextMessage textMessage) {
 
         try {
-            WebSocketMessage message = objectMapper.readValue(textMessage.getPayload(), WebSocketMessage.class);
-            String userName = message.getSender();
-            Long roomId = message.getRoomId();
+            // 라우팅에 필요한 필드만 먼저 읽음
+            SignalRelay.Routing routing = SignalRelay.parseRouting(textMessage.getPayload());
+            Long roomId = routing.getRoomId();
 
-            switch (message.getType()) {
+            switch (routing.getType()) {
                 // 처음 입장
                 case MSG_TYPE_JOIN_ROOM:
+                    WebSocketMessage message = objectMapper.readValue(textMessage.getPayload(), WebSocketMessage.class);
+                    String userName = message.getSender();
 
-                    if (sessionRepository.hasRoom(roomId)) {
-                        // 해당 챗룸이 존재하면
-                        // 세션 저장 1) : 게임방 안의 session List에 새로운 Client session정보를 저장
-                        sessionRepository.addClient(roomId, session);
-                    } else {
-                        // 해당 챗룸이 존재하지 않으면
-                        // 세션 저장 1) : 새로운 게임방 정보와 새로운 Client session정보를 저장
-                        sessionRepository.addClientInNewRoom(roomId, session);
-                    }
+                    // 세션 저장 1) : 게임방 안의 session List에 새로운 Client session정보를 저장 (방이 없다면 새로 만듦)
+                    sessionRepository.addClient(roomId, getOutboundQueue(session));
 
                     // 세션 저장 2) : 이 세션이 어느 방에 들어가 있는지 저장
                     sessionRepository.saveRoomIdToSession(session, roomId);
@@ -68,23 +156,10 @@ public class SignalHandler extends TextWebSocketHandler {
                     // 세션 저장 3) : 방 안에 닉네임들 저장
                     sessionRepository.addNicknameInRoom(session.getId(), message.getNickname());
 
-                    Map<String, WebSocketSession> joinClientList = sessionRepository.getClientList(roomId);
-
-                    // 방안 참가자 중 자신을 제외한 나머지 사람들의 Session ID를 List로 저장
-                    List<String> exportSessionList = new ArrayList<>();
-                    for (Map.Entry<String, WebSocketSession> entry : joinClientList.entrySet()) {
-                        if (entry.getValue() != session) {
-                            exportSessionList.add(entry.getKey());
-                        }
-                    }
-
-                    // 방안 참가자들 닉네임 List
-                    Map<String, String> exportNicknameList = new HashMap<>();
-                    for (Map.Entry<String, WebSocketSession> entry : joinClientList.entrySet()) {
-                        if (entry.getValue() != session) {
-                            exportNicknameList.put(entry.getKey(), sessionRepository.getNicknameInRoom(entry.getKey()));
-                        }
-                    }
+                    // 방안 참가자 중 자신을 제외한 나머지 사람들의 Session ID와 닉네임
+                    Map<String, String> exportNicknameList = getNicknamesInRoom(roomId);
+                    exportNicknameList.remove(session.getId());
+                    List<String> exportSessionList = new ArrayList<>(exportNicknameList.keySet());
 
                     // 접속한 본인에게 방안 참가자들 정보를 전송
                     sendMessage(session,
@@ -105,23 +180,10 @@ public class SignalHandler extends TextWebSocketHandler {
                 case MSG_TYPE_CANDIDATE:
 
                     if (sessionRepository.hasRoom(roomId)) {
-                        Map<String, WebSocketSession> oacClientList = sessionRepository.getClientList(roomId);
-
-                        if (oacClientList.containsKey(message.getReceiver())) {
-                            WebSocketSession ws = oacClientList.get(message.getReceiver());
-                            sendMessage(ws,
-                                    new WebSocketResponseMessage().builder()
-                                            .type(message.getType())
-                                            .sender(session.getId())            // 보낸사람 session Id
-                                            .senderNickName(message.getNickname())
-                                            .receiver(message.getReceiver())    // 받을사람 session Id
-                                            .data(message.getData())
-                                            .offer(message.getOffer())
-                                            .answer(message.getAnswer())
-                                            .candidate(message.getCandidate())
-                                            .sdp(message.getSdp())
-                                            .build());
-                        }
+                        // 보낸사람 session Id와 닉네임을 담고 중계할 필드는 원본 값 그대로 복사해서 전달
+                        sendToReceiver(roomId, routing.getReceiver(),
+                                SignalRelay.withSender(routing, session.getId()),
+                                MSG_TYPE_CANDIDATE.equals(routing.getType()));
                     } else {
                         throw new CustomException(SESSION_ROOM_NOT_FOUND);
                     }
@@ -129,9 +191,9 @@ public class SignalHandler extends TextWebSocketHandler {
 
                 default:
                     log.info("======================================== DEFAULT");
-                    log.info("============== 들어온 타입 : " + message.getType());
+                    log.info("============== 들어온 타입 : " + routing.getType());
             }
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.info("=================== SignalHandler Json처리 에러 : {} ", e.getMessage());
         }
     }
@@ -140,9 +202,25 @@ public class SignalHandler extends TextWebSocketHandler {
     @Override
     @Transactional
     public void afterConnectionClosed(final WebSocketSession session, final CloseStatus status) {
+        // 발신 대기열 정리
+        OutboundSessionQueue outboundQueue = outboundQueues.get(session.getId());
+        if (outboundQueue != null) {
+            outboundQueue.discard();
+            closedDroppedCnt.addAndGet(outboundQueue.getDroppedCount());
+            outboundQueues.remove(session.getId());
+            if (outboundQueue.getDroppedCount() > 0) {
+                log.info("============== 세션 {} 발신 통계 : 전송 {}, 버림 {}, 최대 대기 {}", session.getId(),
+                        outboundQueue.getSentCount(), outboundQueue.getDroppedCount(), outboundQueue.getMaxBacklog());
+            }
+        }
+
         String nickname = sessionRepository.getNicknameInRoom(session.getId());
         // 끊어진 세션이 어느방에 있었는지 조회
         Long roomId = sessionRepository.getRoomId(session);
+        // 방에 들어가기 전에 끊어진 세션이라면 정리할 정보 없음
+        if (roomId == null) {
+            return;
+        }
 
         // 1) 게임방에서 나가는 멤버 정보 정리 / 방장이 나가면 방장도 바꿈
         gameRoomService.exitGameRoomAboutSession(nickname, roomId);
@@ -155,24 +233,68 @@ public class SignalHandler extends TextWebSocketHandler {
 
         // 4) 별도 해당 닉네임 리스트에서도 삭제
         sessionRepository.deleteNicknameInRoom(session.getId());
+
         // 본인 제외 모두에게 전달
-        for(Map.Entry<String, WebSocketSession> oneClient : sessionRepository.getClientList(roomId).entrySet()){
-            sendMessage(oneClient.getValue(),
-                    new WebSocketResponseMessage().builder()
-                            .type("leave")
-                            .sender(session.getId())
-                            .receiver(oneClient.getKey())
-                            .build());
+        for (String receiver : getNicknamesInRoom(roomId).keySet()) {
+            try {
+                sendToReceiver(roomId, receiver, objectMapper.writeValueAsString(
+                        new WebSocketResponseMessage().builder()
+                                .type("leave")
+                                .sender(session.getId())
+                                .receiver(receiver)
+                                .build()), false);
+            } catch (JsonProcessingException e) {
+                log.info("============== 발생한 에러 메세지: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 방 안의 세션 Id -> 닉네임
+    private Map<String, String> getNicknamesInRoom(Long roomId) {
+        Map<String, String> nicknames = new HashMap<>();
+        for (String sessionId : sessionRepository.getClientList(roomId).keySet()) {
+            nicknames.put(sessionId, sessionRepository.getNicknameInRoom(sessionId));
+        }
+        return nicknames;
+    }
+
+    // 받는 세션이 아직 방 안에 있을 때만 전달
+    private void sendToReceiver(Long roomId, String receiver, String json, boolean candidate) {
+        if (sessionRepository.getClientList(roomId).containsKey(receiver)) {
+            sendMessage(receiver, json, candidate);
         }
     }
 
     // 메세지 발송
     private void sendMessage(final WebSocketSession session, final WebSocketResponseMessage message) {
         try {
-            String json = objectMapper.writeValueAsString(message);
-            session.sendMessage(new TextMessage(json));
-        } catch (IOException e) {
+            sendMessage(session, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
             log.info("============== 발생한 에러 메세지: {}", e.getMessage());
         }
     }
+
+    // 이미 JSON으로 만들어진 메세지 발송 (발신 대기열에 넣고 바로 반환)
+    private void sendMessage(final WebSocketSession session, final String json) {
+        sendMessage(session.getId(), json, false);
+    }
+
+    private void sendMessage(final String sessionId, final String json, final boolean candidate) {
+        OutboundSessionQueue outboundQueue = outboundQueues.get(sessionId);
+        if (outboundQueue == null) {
+            // 이미 연결이 끊어진 세션
+            return;
+        }
+        if (candidate) {
+            outboundQueue.sendCandidate(new TextMessage(json));
+        } else {
+            outboundQueue.sendMessage(new TextMessage(json));
+        }
+    }
+
+    // 세션의 발신 대기열 조회 (없으면 생성)
+    private OutboundSessionQueue getOutboundQueue(final WebSocketSession session) {
+        return outboundQueues.computeIfAbsent(session.getId(),
+                id -> new OutboundSessionQueue(session, outboundQueueLimit, overflowPolicy, drainExecutor, sendTimeLimitMillis));
+    }
 }
\ No newline at end of file
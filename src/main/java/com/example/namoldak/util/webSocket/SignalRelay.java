@@ -0,0 +1,125 @@
+package com.example.namoldak.util.webSocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.Getter;
+import java.io.IOException;
+
+// 기능 : offer / answer / candidate 중계용 시그널링 메세지 처리
+// 전체 메세지를 객체로 바꿨다가 다시 JSON으로 만드는 대신, 라우팅에 필요한 필드는 스트리밍으로 읽고
+// 중계할 필드(data, offer, answer, candidate, sdp)는 원본 JSON 값의 위치만 기억해 두었다가 그대로 복사해서
+// WebSocketResponseMessage 와 같은 모양의 메세지를 만든다 (클라이언트가 보낸 sender 나 그 밖의 필드는 전달하지 않음)
+public class SignalRelay {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final JsonStringEncoder jsonStringEncoder = JsonStringEncoder.getInstance();
+    // 원본 값을 그대로 복사해서 전달하는 필드 (전달 순서대로)
+    private static final String[] RELAY_FIELDS = {"data", "offer", "answer", "candidate", "sdp"};
+
+    private SignalRelay() {
+    }
+
+    // 라우팅 필드 (type, roomId, receiver, nickname)는 읽고, 중계할 필드는 값의 위치만 기록, 나머지 값은 건너뜀
+    public static Routing parseRouting(String payload) throws IOException {
+        Routing routing = new Routing(payload);
+
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("시그널링 메세지가 JSON 객체가 아님");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (fieldName) {
+                    case "type":
+                        routing.type = parser.getValueAsString();
+                        break;
+                    case "roomId":
+                        routing.roomId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+                        break;
+                    case "receiver":
+                        routing.receiver = parser.getValueAsString();
+                        break;
+                    case "nickname":
+                        routing.nickname = parser.getValueAsString();
+                        break;
+                    default:
+                        int relayField = indexOfRelayField(fieldName);
+                        if (relayField < 0 || value == JsonToken.VALUE_NULL) {
+                            parser.skipChildren();
+                            break;
+                        }
+                        // 값이 시작하는 위치부터 값을 끝까지 읽은 위치까지
+                        int start = (int) parser.getTokenLocation().getCharOffset();
+                        parser.skipChildren();
+                        parser.finishToken();
+                        routing.valueStart[relayField] = start;
+                        routing.valueEnd[relayField] = (int) parser.getCurrentLocation().getCharOffset();
+                }
+            }
+        }
+        return routing;
+    }
+
+    // 보낸 사람 session Id와 닉네임을 담아 중계할 메세지 생성
+    public static String withSender(Routing routing, String senderId) {
+        String payload = routing.payload;
+        StringBuilder relay = new StringBuilder(payload.length() + 64).append('{');
+        appendField(relay, "type", routing.type);
+        appendField(relay, "sender", senderId);
+        appendField(relay, "senderNickName", routing.nickname);
+        appendField(relay, "receiver", routing.receiver);
+        for (int i = 0; i < RELAY_FIELDS.length; i++) {
+            if (routing.valueStart[i] < 0) {
+                continue;
+            }
+            appendSeparator(relay);
+            relay.append('"').append(RELAY_FIELDS[i]).append("\":").append(payload, routing.valueStart[i], routing.valueEnd[i]);
+        }
+        return relay.append('}').toString();
+    }
+
+    private static int indexOfRelayField(String fieldName) {
+        for (int i = 0; i < RELAY_FIELDS.length; i++) {
+            if (RELAY_FIELDS[i].equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 값이 null 이면 필드를 넣지 않음 (WebSocketResponseMessage 의 NON_NULL 과 같음)
+    private static void appendField(StringBuilder relay, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        appendSeparator(relay);
+        relay.append('"').append(name).append("\":\"");
+        jsonStringEncoder.quoteAsString(value, relay);
+        relay.append('"');
+    }
+
+    private static void appendSeparator(StringBuilder relay) {
+        if (relay.length() > 1) {
+            relay.append(',');
+        }
+    }
+
+    // 시그널링 메세지 라우팅 정보
+    @Getter
+    public static class Routing {
+        private final String payload;
+        private String type;
+        private Long roomId;
+        private String receiver;
+        private String nickname;
+        // 중계할 필드 값의 원본 위치 (없으면 -1)
+        private final int[] valueStart = {-1, -1, -1, -1, -1};
+        private final int[] valueEnd = new int[RELAY_FIELDS.length];
+
+        private Routing(String payload) {
+            this.payload = payload;
+        }
+    }
+}
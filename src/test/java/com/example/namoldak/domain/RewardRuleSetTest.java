@@ -0,0 +1,31 @@
+package com.example.namoldak.domain;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RewardRuleSetTest {
+
+    private final RewardRuleSet rewardRuleSet = new RewardRuleSet(Arrays.asList(
+            new RewardRule(MemberCounter.WIN_NUM, 1L, "병아리"),
+            new RewardRule(MemberCounter.WIN_NUM, 40L, "닭"),
+            new RewardRule(MemberCounter.WIN_NUM, 60L, "봉황"),
+            new RewardRule(MemberCounter.LOSE_NUM, 1L, "병든 병아리")
+    ));
+
+    @Test
+    public void 기준값에_도달한_리워드만_반환() {
+        assertThat(rewardRuleSet.match(MemberCounter.WIN_NUM, 0, 1)).containsExactly("병아리");
+        assertThat(rewardRuleSet.match(MemberCounter.WIN_NUM, 1, 2)).isEmpty();
+        assertThat(rewardRuleSet.match(MemberCounter.WIN_NUM, 39, 40)).containsExactly("닭");
+        assertThat(rewardRuleSet.match(MemberCounter.LOSE_NUM, 0, 1)).containsExactly("병든 병아리");
+        assertThat(rewardRuleSet.match(MemberCounter.TOTAL_GAME_NUM, 0, 1)).isEmpty();
+    }
+
+    @Test
+    public void 여러_기준을_한_번에_넘으면_모두_반환() {
+        assertThat(rewardRuleSet.match(MemberCounter.WIN_NUM, 38, 61)).containsExactly("닭", "봉황");
+        assertThat(rewardRuleSet.match(MemberCounter.WIN_NUM, 61, 61)).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.namoldak.domain;
+
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomAdmissionTest {
+
+    @Test
+    public void 동시_입장해도_정원을_넘지_않음() throws Exception {
+        //given : 방장 1명이 들어가 있는 방
+        RoomAdmission roomAdmission = new RoomAdmission(Collections.singletonList(0L));
+        int threadCnt = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        //when : 16명이 동시에 입장
+        List<Future<?>> futures = new ArrayList<>();
+        for (long memberId = 1; memberId <= threadCnt; memberId++) {
+            long eachMemberId = memberId;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    roomAdmission.admit(eachMemberId);
+                    admitted.incrementAndGet();
+                } catch (CustomException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        //then : 남은 3자리만 입장, 이미 입장한 멤버는 중복 입장 불가
+        assertThat(admitted.get()).isEqualTo(RoomAdmission.CAPACITY - 1);
+        assertThat(rejected.get()).isEqualTo(threadCnt - (RoomAdmission.CAPACITY - 1));
+        assertThatThrownBy(() -> roomAdmission.admit(0L)).isInstanceOf(CustomException.class);
+
+        // 한 명이 나가면 다시 한 자리가 생김
+        roomAdmission.release(0L);
+        assertThat(roomAdmission.admit(100L)).isEqualTo(RoomAdmission.CAPACITY - 1);
+    }
+}
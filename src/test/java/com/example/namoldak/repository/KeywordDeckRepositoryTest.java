@@ -0,0 +1,63 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.Keyword;
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeywordDeckRepositoryTest {
+
+    private KeywordDeckRepository deckOf(String category, int size) {
+        List<Keyword> keywordList = new ArrayList<>();
+        for (long i = 0; i < size; i++) {
+            keywordList.add(new Keyword(i, category, category + i));
+        }
+        KeywordDeckRepository keywordDeckRepository = new KeywordDeckRepository();
+        keywordDeckRepository.replace(keywordList, size + ":" + size + ":0");
+        return keywordDeckRepository;
+    }
+
+    @Test
+    public void 참가자_수만큼_서로_다른_키워드를_뽑음() {
+        KeywordDeckRepository keywordDeckRepository = deckOf("동물", 10);
+
+        for (int size = 1; size <= 10; size++) {
+            List<String> words = keywordDeckRepository.draw("동물", size);
+
+            assertThat(words).hasSize(size);
+            assertThat(new HashSet<>(words)).hasSize(size);
+            assertThat(words).allMatch(word -> word.startsWith("동물"));
+        }
+    }
+
+    @Test
+    public void 모든_키워드가_고르게_뽑힘() {
+        KeywordDeckRepository keywordDeckRepository = deckOf("음식", 5);
+        int[] counts = new int[5];
+
+        for (int i = 0; i < 10000; i++) {
+            for (String word : keywordDeckRepository.draw("음식", 2)) {
+                counts[Integer.parseInt(word.substring(2))]++;
+            }
+        }
+
+        // 기대값 4000 회
+        for (int count : counts) {
+            assertThat(count).isBetween(3600, 4400);
+        }
+    }
+
+    @Test
+    public void 키워드가_부족하면_예외() {
+        KeywordDeckRepository keywordDeckRepository = deckOf("영화", 3);
+
+        assertThat(keywordDeckRepository.isLoaded()).isTrue();
+        assertThatThrownBy(() -> keywordDeckRepository.draw("영화", 4)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> keywordDeckRepository.draw("드라마", 1)).isInstanceOf(CustomException.class);
+    }
+}
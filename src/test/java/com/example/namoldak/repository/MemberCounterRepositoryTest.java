@@ -0,0 +1,114 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.domain.Member;
+import com.example.namoldak.domain.MemberCounter;
+import com.example.namoldak.dto.RequestDto.SignupRequestDto;
+import com.example.namoldak.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 스레드가 동시에 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 만든 멤버는 직접 삭제
+@SpringBootTest
+class MemberCounterRepositoryTest {
+
+    @Autowired
+    private MemberCounterRepository memberCounterRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void 카운터_여러_개를_한_문장으로_증가() {
+        String sql = MemberCounterRepository.buildUpdateSql(EnumSet.of(MemberCounter.PLAY_TIME, MemberCounter.WIN_NUM));
+
+        assertThat(sql).isEqualTo("update member set win_num = win_num + ?, play_time = play_time + ? where id = ?");
+    }
+
+    @Test
+    public void 동시에_증가해도_유실되지_않음() throws Exception {
+        //given : 멤버 2명, 스레드 8개가 각각 increment 와 incrementAll 을 번갈아 50번씩 실행
+        Member first = memberRepository.save(new Member("카운터동시성1@test.com", "카운터동시성1", "password"));
+        Member second = memberRepository.save(new Member("카운터동시성2@test.com", "카운터동시성2", "password"));
+        int threadCnt = 8;
+        int repeat = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCnt);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            //when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCnt; t++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < repeat; i++) {
+                        if (i % 2 == 0) {
+                            memberCounterRepository.increment(first.getId(), MemberCounter.WIN_NUM, 1L);
+                        } else {
+                            EnumMap<MemberCounter, Long> deltas = new EnumMap<>(MemberCounter.class);
+                            deltas.put(MemberCounter.WIN_NUM, 1L);
+                            deltas.put(MemberCounter.PLAY_TIME, 10L);
+                            memberCounterRepository.incrementAll(Map.of(
+                                    first.getId(), deltas,
+                                    second.getId(), new EnumMap<>(Map.of(MemberCounter.LOSE_NUM, 1L))));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            //then : 모든 증가가 반영됨
+            Member firstResult = memberRepository.findById(first.getId()).get();
+            Member secondResult = memberRepository.findById(second.getId()).get();
+            assertThat(firstResult.getWinNum()).isEqualTo((long) threadCnt * repeat);
+            assertThat(firstResult.getPlayTime()).isEqualTo((long) threadCnt * repeat / 2 * 10);
+            assertThat(secondResult.getLoseNum()).isEqualTo((long) threadCnt * repeat / 2);
+            assertThat(secondResult.getWinNum()).isZero();
+        } finally {
+            executorService.shutdownNow();
+            memberRepository.deleteAll(List.of(first, second));
+        }
+    }
+
+    @Test
+    public void 닉네임_변경_중에_증가한_카운터가_덮어써지지_않음() {
+        //given
+        Member member = memberRepository.save(new Member("닉네임변경중@test.com", "닉네임변경중", "password"));
+        TransactionTemplate nicknameTransaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate counterTransaction = new TransactionTemplate(transactionManager);
+        counterTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            //when : 닉네임 변경 트랜잭션이 멤버를 읽고 커밋하기 전에, 다른 트랜잭션에서 승리 수 증가 후 커밋
+            nicknameTransaction.executeWithoutResult(status -> {
+                memberService.changeNickname(new SignupRequestDto("바뀐닉네임", member.getEmail(), "password"), member);
+                counterTransaction.executeWithoutResult(inner -> memberCounterRepository.increment(member.getId(), MemberCounter.WIN_NUM, 1L));
+            });
+
+            //then : 바뀐 닉네임과 증가한 승리 수 모두 반영됨
+            Member result = memberRepository.findById(member.getId()).get();
+            assertThat(result.getNickname()).isEqualTo("바뀐닉네임");
+            assertThat(result.getWinNum()).isEqualTo(1L);
+        } finally {
+            memberRepository.deleteById(member.getId());
+        }
+    }
+}
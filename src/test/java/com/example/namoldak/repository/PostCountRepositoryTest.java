@@ -0,0 +1,39 @@
+package com.example.namoldak.repository;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostCountRepositoryTest {
+
+    @Test
+    public void 처음_한번만_세고_이후에는_메모리에서_더하고_뺌() {
+        PostCountRepository postCountRepository = new PostCountRepository(60);
+        AtomicInteger countQueryCnt = new AtomicInteger();
+
+        // 처음 조회할 때만 DB에서 셈
+        assertThat(postCountRepository.findOrLoad("freeboard", () -> {
+            countQueryCnt.incrementAndGet();
+            return 10;
+        })).isEqualTo(10);
+
+        // 작성 2번, 삭제 1번
+        postCountRepository.increase("freeboard");
+        postCountRepository.increase("freeboard");
+        postCountRepository.decrease("freeboard");
+        assertThat(postCountRepository.findOrLoad("freeboard", () -> {
+            countQueryCnt.incrementAndGet();
+            return 0;
+        })).isEqualTo(11);
+        assertThat(countQueryCnt.get()).isEqualTo(1);
+
+        // 아직 센 적 없는 카테고리는 작성해도 그대로 두고 조회할 때 셈
+        postCountRepository.increase("feedback");
+        assertThat(postCountRepository.findOrLoad("feedback", () -> 3)).isEqualTo(3);
+
+        // 회원탈퇴로 비우면 다시 셈
+        postCountRepository.clear();
+        assertThat(postCountRepository.findOrLoad("freeboard", () -> 7)).isEqualTo(7);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.namoldak.repository;
+
+import com.example.namoldak.util.cluster.ClusterEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RewardCacheRepositoryTest {
+
+    @Test
+    public void 무효화_전까지는_다시_조회하지_않음() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RewardCacheRepository rewardCacheRepository = new RewardCacheRepository(mock(ClusterEventBus.class), meterRegistry, 100, 30);
+        AtomicInteger loadCnt = new AtomicInteger();
+
+        // 처음 조회 (미스) 후 두 번 더 조회 (적중)
+        for (int i = 0; i < 3; i++) {
+            assertThat(rewardCacheRepository.findOrLoad(1L, () -> {
+                loadCnt.incrementAndGet();
+                return Arrays.asList("병아리", "게임에 중독된 병아리");
+            })).containsExactly("병아리", "게임에 중독된 병아리");
+        }
+        assertThat(loadCnt.get()).isEqualTo(1);
+        assertThat(rewardCacheRepository.getStats().hitCount()).isEqualTo(2);
+        assertThat(rewardCacheRepository.getStats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "reward", "result", "hit").functionCounter().count()).isEqualTo(2);
+
+        // 리워드 지급으로 무효화되면 다시 조회
+        rewardCacheRepository.invalidateAll(Collections.singletonList(1L));
+        assertThat(rewardCacheRepository.findOrLoad(1L, () -> {
+            loadCnt.incrementAndGet();
+            return Arrays.asList("병아리", "게임에 중독된 병아리", "병든 병아리");
+        })).hasSize(3);
+        assertThat(loadCnt.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void 무효화는_다른_서버의_캐시에도_전달() {
+        //given : 같은 멤버를 캐시하고 있는 서버 2대 (Redis 대신 발행한 내용을 직접 전달)
+        ClusterEventBus busA = mock(ClusterEventBus.class);
+        ClusterEventBus busB = mock(ClusterEventBus.class);
+        RewardCacheRepository nodeA = new RewardCacheRepository(busA, new SimpleMeterRegistry(), 100, 30);
+        RewardCacheRepository nodeB = new RewardCacheRepository(busB, new SimpleMeterRegistry(), 100, 30);
+        nodeA.init();
+        nodeB.init();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> handlerB = ArgumentCaptor.forClass(Consumer.class);
+        verify(busB).subscribe(eq("reward-cache"), handlerB.capture());
+        nodeB.findOrLoad(1L, () -> List.of("병아리"));
+        nodeB.findOrLoad(2L, () -> List.of("병든 병아리"));
+
+        //when : A 서버에서 리워드 지급으로 무효화
+        nodeA.invalidateAll(Arrays.asList(1L, 2L));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(busA).publish(eq("reward-cache"), payload.capture());
+        handlerB.getValue().accept(payload.getValue());
+
+        //then : B 서버도 다시 조회
+        assertThat(nodeB.findOrLoad(1L, () -> List.of("병아리", "닭"))).containsExactly("병아리", "닭");
+        assertThat(nodeB.findOrLoad(2L, () -> List.of("병든 병아리", "병든 닭"))).hasSize(2);
+    }
+
+    @Test
+    public void 조회_중에_무효화되면_조회한_값을_남기지_않음() throws Exception {
+        //given : DB 에서 지난 리워드 목록을 읽은 채로 멈춰 있는 조회
+        RewardCacheRepository rewardCacheRepository = new RewardCacheRepository(mock(ClusterEventBus.class), new SimpleMeterRegistry(), 100, 30);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<List<String>> staleLoad = executorService.submit(() -> rewardCacheRepository.findOrLoad(1L, () -> {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of("병아리");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            //when : 조회가 끝나기 전에 리워드 지급으로 무효화
+            rewardCacheRepository.invalidate(1L);
+            release.countDown();
+            assertThat(staleLoad.get(5, TimeUnit.SECONDS)).containsExactly("병아리");
+
+            //then : 다음 조회는 새로 읽음
+            assertThat(rewardCacheRepository.findOrLoad(1L, () -> List.of("병아리", "닭"))).containsExactly("병아리", "닭");
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.namoldak.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionRepositoryTest {
+
+    private final SessionRepository sessionRepository = SessionRepository.getInstance();
+
+    @Test
+    public void 여러_스레드가_동시에_입장_퇴장_브로드캐스트해도_세션_유실_없음() throws Exception {
+        //given : 방 8개, 방마다 세션 64개 (다른 테스트와 겹치지 않는 방 Id 사용)
+        int roomCnt = 8;
+        int sessionCntPerRoom = 64;
+        long firstRoomId = 7_000_000L;
+        List<List<WebSocketSession>> sessionsByRoom = new ArrayList<>();
+        for (int room = 0; room < roomCnt; room++) {
+            List<WebSocketSession> sessions = new ArrayList<>();
+            for (int i = 0; i < sessionCntPerRoom; i++) {
+                WebSocketSession session = mock(WebSocketSession.class);
+                when(session.getId()).thenReturn("stress-" + room + "-" + i);
+                sessions.add(session);
+            }
+            sessionsByRoom.add(sessions);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(roomCnt * 2 + 2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicBoolean joining = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when : 방마다 입장 스레드와 퇴장 스레드, 그리고 모든 방을 계속 순회하는 브로드캐스트 스레드가 동시에 동작
+        for (int room = 0; room < roomCnt; room++) {
+            long roomId = firstRoomId + room;
+            List<WebSocketSession> sessions = sessionsByRoom.get(room);
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < sessionCntPerRoom; i++) {
+                    WebSocketSession session = sessions.get(i);
+                    sessionRepository.addClient(roomId, session);
+                    sessionRepository.saveRoomIdToSession(session, roomId);
+                    sessionRepository.addNicknameInRoom(session.getId(), "닉네임" + i);
+                }
+                return null;
+            }));
+            // 짝수 번째 세션은 들어오는 즉시 나감
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < sessionCntPerRoom; i += 2) {
+                    WebSocketSession session = sessions.get(i);
+                    while (sessionRepository.getRoomId(session) == null) {
+                        Thread.onSpinWait();
+                    }
+                    sessionRepository.deleteClient(roomId, session);
+                    sessionRepository.deleteRoomIdToSession(session);
+                    sessionRepository.deleteNicknameInRoom(session.getId());
+                }
+                return null;
+            }));
+        }
+        for (int broadcaster = 0; broadcaster < 2; broadcaster++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                while (joining.get()) {
+                    for (int room = 0; room < roomCnt; room++) {
+                        for (Map.Entry<String, WebSocketSession> client : sessionRepository.getClientList(firstRoomId + room).entrySet()) {
+                            sessionRepository.getNicknameInRoom(client.getKey());
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (int i = 0; i < roomCnt * 2; i++) {
+            futures.get(i).get(10, TimeUnit.SECONDS);
+        }
+        joining.set(false);
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        //then : 홀수 번째 세션만 남아있고, 세션 -> 방 / 세션 -> 닉네임 조회가 모두 맞음
+        for (int room = 0; room < roomCnt; room++) {
+            long roomId = firstRoomId + room;
+            Map<String, WebSocketSession> clientList = sessionRepository.getClientList(roomId);
+            assertThat(clientList).hasSize(sessionCntPerRoom / 2);
+            for (int i = 0; i < sessionCntPerRoom; i++) {
+                WebSocketSession session = sessionsByRoom.get(room).get(i);
+                if (i % 2 == 0) {
+                    assertThat(clientList).doesNotContainKey(session.getId());
+                    assertThat(sessionRepository.getRoomId(session)).isNull();
+                    assertThat(sessionRepository.getNicknameInRoom(session.getId())).isNull();
+                } else {
+                    assertThat(clientList).containsKey(session.getId());
+                    assertThat(sessionRepository.getRoomId(session)).isEqualTo(roomId);
+                    assertThat(sessionRepository.getNicknameInRoom(session.getId())).isEqualTo("닉네임" + i);
+                }
+            }
+            sessionRepository.deleteAllclientsInRoom(roomId);
+            assertThat(sessionRepository.hasRoom(roomId)).isFalse();
+            assertThat(sessionRepository.getClientList(roomId)).isEmpty();
+        }
+    }
+}
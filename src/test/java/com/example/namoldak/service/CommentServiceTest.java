@@ -0,0 +1,166 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domain.Member;
+import com.example.namoldak.domain.Post;
+import com.example.namoldak.dto.RequestDto.CommentRequestDto;
+import com.example.namoldak.dto.RequestDto.PostRequestDto;
+import com.example.namoldak.dto.ResponseDto.CommentResponseDto;
+import com.example.namoldak.dto.ResponseDto.CommentTreeResponseDto;
+import com.example.namoldak.dto.ResponseDto.CommentTreeResponseListDto;
+import com.example.namoldak.dto.ResponseDto.CursorResponseDto;
+import com.example.namoldak.dto.ResponseDto.PostResponseListDto;
+import com.example.namoldak.repository.MemberRepository;
+import com.example.namoldak.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Transactional
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void 댓글_작성_삭제에_맞춰_게시글_댓글_수가_바뀜() throws Exception {
+        //given
+        Member member = memberRepository.save(new Member("댓글수테스트@test.com", "댓글수테스트", "password"));
+        Post post = postRepository.save(new Post(new PostRequestDto("제목", "내용", "댓글수테스트게시판"), member));
+
+        //when : 댓글 2개, 첫 댓글에 대댓글 1개 작성 후 첫 댓글 삭제 (대댓글도 함께 삭제)
+        CommentResponseDto first = commentService.createComment(post.getId(), commentRequest("첫 댓글"), member);
+        commentService.createComment(post.getId(), commentRequest("두번째 댓글"), member);
+        commentService.createReply(post.getId(), first.getId(), commentRequest("대댓글"), member);
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(postRepository.findById(post.getId()).get().getCommentCount()).isEqualTo(3);
+
+        commentService.deleteComment(first.getId(), member);
+        entityManager.flush();
+        entityManager.clear();
+
+        //then : 목록 조회에서도 같은 댓글 수
+        assertThat(postRepository.findById(post.getId()).get().getCommentCount()).isEqualTo(1);
+        PostResponseListDto board = postService.getFreeBoard(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")), "댓글수테스트게시판");
+        assertThat(board.getPostResponseDtoList()).hasSize(1);
+        assertThat(board.getPostResponseDtoList().get(0).getCmtCnt()).isEqualTo(1);
+        assertThat(board.getPostResponseDtoList().get(0).getNickname()).isEqualTo("댓글수테스트");
+    }
+
+    @Test
+    public void 커서로_이어서_조회하면_빠짐없이_한번씩_조회됨() throws Exception {
+        //given : 댓글 5개
+        Member member = memberRepository.save(new Member("커서테스트@test.com", "커서테스트", "password"));
+        Post post = postRepository.save(new Post(new PostRequestDto("제목", "내용", "커서테스트게시판"), member));
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            commentIds.add(commentService.createComment(post.getId(), commentRequest("댓글" + i), member).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when : 2개씩 마지막 페이지까지 조회
+        List<Long> fetchedIds = new ArrayList<>();
+        CursorResponseDto<CommentResponseDto> page = commentService.getCommentsByCursor(post.getId(), null, null, 2);
+        int requestCnt = 1;
+        page.getContentList().forEach(comment -> fetchedIds.add(comment.getId()));
+        while (page.isHasNext()) {
+            page = commentService.getCommentsByCursor(post.getId(), page.getNextCreatedAt(), page.getNextId(), 2);
+            page.getContentList().forEach(comment -> fetchedIds.add(comment.getId()));
+            requestCnt++;
+        }
+
+        //then : 최신 댓글부터 (작성 시간이 같으면 Id 역순) 5개 모두
+        Collections.reverse(commentIds);
+        assertThat(fetchedIds).containsExactlyElementsOf(commentIds);
+        assertThat(requestCnt).isEqualTo(3);
+    }
+
+    @Test
+    public void 대댓글까지_트리로_조립됨() throws Exception {
+        //given : 댓글1 - 대댓글1 - 대대댓글1, 댓글1 - 대댓글2, 댓글2
+        Member member = memberRepository.save(new Member("트리테스트@test.com", "트리테스트", "password"));
+        Post post = postRepository.save(new Post(new PostRequestDto("제목", "내용", "트리테스트게시판"), member));
+        CommentResponseDto first = commentService.createComment(post.getId(), commentRequest("댓글1"), member);
+        CommentResponseDto reply = commentService.createReply(post.getId(), first.getId(), commentRequest("대댓글1"), member);
+        commentService.createReply(post.getId(), reply.getId(), commentRequest("대대댓글1"), member);
+        commentService.createReply(post.getId(), first.getId(), commentRequest("대댓글2"), member);
+        commentService.createComment(post.getId(), commentRequest("댓글2"), member);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        CommentTreeResponseListDto tree = commentService.getCommentTree(post.getId(), PageRequest.of(0, 10));
+
+        //then : 최상위 댓글은 최신순, 대댓글은 작성순
+        assertThat(tree.isTruncated()).isFalse();
+        assertThat(tree.getCommentTreeList()).extracting(CommentTreeResponseDto::getComment)
+                .containsExactly("댓글2", "댓글1");
+        CommentTreeResponseDto firstTree = tree.getCommentTreeList().get(1);
+        assertThat(firstTree.getReplyList()).extracting(CommentTreeResponseDto::getComment)
+                .containsExactly("대댓글1", "대댓글2");
+        assertThat(firstTree.getReplyList().get(0).getReplyList()).extracting(CommentTreeResponseDto::getComment)
+                .containsExactly("대대댓글1");
+    }
+
+    // 두 트랜잭션이 각각 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 삭제
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void 게시글_수정_중에_달린_댓글_수가_덮어써지지_않음() throws Exception {
+        //given
+        Member member = memberRepository.save(new Member("수정중댓글@test.com", "수정중댓글", "password"));
+        Post post = postRepository.save(new Post(new PostRequestDto("제목", "내용", "수정중댓글게시판"), member));
+        CommentRequestDto comment = commentRequest("수정 중에 달린 댓글");
+        TransactionTemplate editTransaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate commentTransaction = new TransactionTemplate(transactionManager);
+        commentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            //when : 게시글 수정 트랜잭션이 게시글을 읽고 커밋하기 전에, 다른 트랜잭션에서 댓글 작성 후 커밋
+            editTransaction.executeWithoutResult(status -> {
+                postService.updatePost(post.getId(), new PostRequestDto("수정한 제목", "수정한 내용", "수정중댓글게시판"), null, member);
+                commentTransaction.executeWithoutResult(inner -> commentService.createComment(post.getId(), comment, member));
+            });
+
+            //then : 수정 내용과 댓글 수 모두 반영됨
+            Post result = postRepository.findById(post.getId()).get();
+            assertThat(result.getTitle()).isEqualTo("수정한 제목");
+            assertThat(result.getCommentCount()).isEqualTo(1);
+        } finally {
+            postRepository.deleteById(post.getId());
+            memberRepository.deleteById(member.getId());
+        }
+    }
+
+    private CommentRequestDto commentRequest(String comment) throws Exception {
+        return new ObjectMapper().readValue("{\"comment\":\"" + comment + "\"}", CommentRequestDto.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domain.GameResult;
+import com.example.namoldak.domain.GameState;
+import com.example.namoldak.domain.KeywordAssignment;
+import com.example.namoldak.domain.MemberCounter;
+import com.example.namoldak.repository.MemberCounterRepository;
+import com.example.namoldak.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class GameResultAggregatorTest {
+
+    @Test
+    public void 게임_결과를_멤버별_증가량으로_합침() {
+        //given : 같은 멤버가 참가한 두 판 (1번이 한 판 승리, 두 번째 판은 정답자 없음)
+        List<String> nicknames = Arrays.asList("닭1", "닭2", "닭3");
+        List<Long> memberIds = Arrays.asList(1L, 2L, 3L);
+        GameState gameState = new GameState(10L, "동물", nicknames, memberIds,
+                KeywordAssignment.of(nicknames, Arrays.asList("사자", "호랑이", "토끼")), 0L);
+        gameState.checkAnswer("닭1", "사자");
+        GameResult first = gameState.toResult(30_000L);
+        GameResult second = new GameResult(11L, Arrays.asList(1L, 4L), null, 20L);
+
+        //when
+        Map<Long, EnumMap<MemberCounter, Long>> deltasByMemberId = GameResultAggregator.coalesce(Arrays.asList(first, second));
+
+        //then
+        assertThat(first.getWinnerId()).isEqualTo(1L);
+        assertThat(first.getPlayTime()).isEqualTo(30L);
+        assertThat(deltasByMemberId).hasSize(4);
+        assertThat(deltasByMemberId.get(1L)).containsOnly(
+                entry(MemberCounter.WIN_NUM, 1L), entry(MemberCounter.LOSE_NUM, 1L),
+                entry(MemberCounter.TOTAL_GAME_NUM, 2L), entry(MemberCounter.PLAY_TIME, 50L));
+        assertThat(deltasByMemberId.get(2L)).containsOnly(
+                entry(MemberCounter.LOSE_NUM, 1L), entry(MemberCounter.TOTAL_GAME_NUM, 1L), entry(MemberCounter.PLAY_TIME, 30L));
+        assertThat(deltasByMemberId.get(4L)).containsOnly(
+                entry(MemberCounter.LOSE_NUM, 1L), entry(MemberCounter.TOTAL_GAME_NUM, 1L), entry(MemberCounter.PLAY_TIME, 20L));
+    }
+
+    @Test
+    public void 반영에_실패한_결과는_재시도_횟수까지_다시_넣고_포기() {
+        //given : DB 반영이 계속 실패하는 상태, 최대 3번 시도 (worker 는 시작하지 않고 직접 반영)
+        MemberCounterRepository memberCounterRepository = mock(MemberCounterRepository.class);
+        doThrow(new IllegalStateException("DB 장애")).when(memberCounterRepository).incrementAll(anyMap());
+        GameResultAggregator aggregator = newAggregator(memberCounterRepository, 10);
+        GameResult gameResult = new GameResult(1L, Arrays.asList(1L, 2L), 1L, 30L);
+        aggregator.submit(gameResult);
+
+        //when : 첫 번째, 두 번째 실패 후에는 다시 대기열로
+        assertThat(aggregator.apply(Collections.singletonList(new GameResultAggregator.Pending(gameResult, 0)))).isFalse();
+        assertThat(aggregator.apply(Collections.singletonList(new GameResultAggregator.Pending(gameResult, 1)))).isFalse();
+
+        //then
+        assertThat(aggregator.getBacklog()).isEqualTo(3);
+        assertThat(aggregator.getDeadLetterCount()).isZero();
+
+        //when : 세 번째 실패는 포기
+        assertThat(aggregator.apply(Collections.singletonList(new GameResultAggregator.Pending(gameResult, 2)))).isFalse();
+
+        //then
+        assertThat(aggregator.getBacklog()).isEqualTo(3);
+        assertThat(aggregator.getDeadLetterCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 여러_판을_한_번에_반영하다_실패하면_실패한_판만_재시도() {
+        //given : 99번 멤버가 들어간 판만 계속 실패
+        MemberCounterRepository memberCounterRepository = mock(MemberCounterRepository.class);
+        doAnswer(invocation -> {
+            Map<Long, ?> deltasByMemberId = invocation.getArgument(0);
+            if (deltasByMemberId.containsKey(99L)) {
+                throw new IllegalStateException("잘못된 결과");
+            }
+            return null;
+        }).when(memberCounterRepository).incrementAll(anyMap());
+        GameResultAggregator aggregator = newAggregator(memberCounterRepository, 10);
+        GameResult poison = new GameResult(2L, Arrays.asList(3L, 99L), null, 20L);
+
+        //when
+        boolean applied = aggregator.apply(Arrays.asList(
+                new GameResultAggregator.Pending(new GameResult(1L, Arrays.asList(1L, 2L), 1L, 30L), 0),
+                new GameResultAggregator.Pending(poison, 0),
+                new GameResultAggregator.Pending(new GameResult(3L, Arrays.asList(4L, 5L), 4L, 10L), 0)));
+
+        //then : 묶음 1번 + 한 판씩 3번 시도, 나머지 두 판은 반영되고 실패한 판만 다시 대기열로
+        assertThat(applied).isFalse();
+        verify(memberCounterRepository, times(4)).incrementAll(anyMap());
+        assertThat(aggregator.getBacklog()).isEqualTo(1);
+        assertThat(aggregator.getDeadLetterCount()).isZero();
+    }
+
+    @Test
+    public void 대기열이_가득_차면_넘긴_스레드에서_바로_반영() {
+        //given : 대기열 한도 1 (worker 는 시작하지 않음)
+        MemberCounterRepository memberCounterRepository = mock(MemberCounterRepository.class);
+        GameResultAggregator aggregator = newAggregator(memberCounterRepository, 1);
+
+        //when
+        aggregator.submit(new GameResult(1L, Arrays.asList(1L, 2L), 1L, 30L));
+        aggregator.submit(new GameResult(2L, Arrays.asList(3L, 4L), null, 20L));
+
+        //then : 두 번째 결과는 대기열에 들어가지 않고 바로 반영됨
+        assertThat(aggregator.getBacklog()).isEqualTo(1);
+        verify(memberCounterRepository, times(1)).incrementAll(anyMap());
+        assertThat(aggregator.getDeadLetterCount()).isZero();
+    }
+
+    private GameResultAggregator newAggregator(MemberCounterRepository memberCounterRepository, int queueLimit) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new GameResultAggregator(memberCounterRepository, transactionManager, mock(MemberRepository.class),
+                mock(RewardService.class), new SimpleMeterRegistry(), 100, queueLimit, 3, 0L);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domain.GameRoom;
+import com.example.namoldak.domain.GameRoomAttendee;
+import com.example.namoldak.domain.Member;
+import com.example.namoldak.dto.ResponseDto.GameRoomResponseDto;
+import com.example.namoldak.dto.ResponseDto.GameRoomResponseListDto;
+import com.example.namoldak.repository.GameRoomAttendeeRepository;
+import com.example.namoldak.repository.GameRoomRepository;
+import com.example.namoldak.repository.LobbyRepository;
+import com.example.namoldak.repository.MemberRepository;
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class GameRoomServiceTest {
+
+    @Autowired
+    private GameRoomService gameRoomService;
+    @Autowired
+    private LobbyService lobbyService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GameRoomRepository gameRoomRepository;
+    @Autowired
+    private GameRoomAttendeeRepository gameRoomAttendeeRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private LobbyRepository lobbyRepository;
+
+    // 롤백된 방이 스냅샷에 남아 다른 테스트에 보이지 않도록 비움
+    @AfterTransaction
+    void clearLobbySnapshot() {
+        lobbyRepository.clear();
+    }
+
+    @Test
+    public void 로비_페이지_조회는_DB를_거치지_않음() {
+        //given : 참가자가 가득 찬 방 4개
+        for (int i = 0; i < 4; i++) {
+            GameRoom gameRoom = gameRoomRepository.save(GameRoom.builder()
+                    .gameRoomName("쿼리수테스트방" + i)
+                    .owner("쿼리수테스트" + i + "_0")
+                    .status(true)
+                    .build());
+            for (int j = 0; j < 4; j++) {
+                String nickname = "쿼리수테스트" + i + "_" + j;
+                Member member = memberRepository.save(new Member(nickname + "@test.com", nickname, "password"));
+                gameRoomAttendeeRepository.save(new GameRoomAttendee(gameRoom, member));
+            }
+        }
+        // 1차 캐시에서 꺼내오지 않도록 영속성 컨텍스트 비우기
+        entityManager.flush();
+        entityManager.clear();
+        // 서비스를 거치지 않고 저장한 방이므로 스냅샷을 다시 적재
+        lobbyService.reloadSnapshot();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        GameRoomResponseListDto result = gameRoomService.mainPage(PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "gameRoomId")));
+
+        //then : 스냅샷에서 바로 응답하므로 쿼리 없음
+        assertThat(result.getGameRoomResponseDtoList()).hasSize(4);
+        assertThat(result.getGameRoomResponseDtoList().get(0).getMemberCnt()).isEqualTo(4);
+        assertThat(result.getGameRoomResponseDtoList().get(0).getRoomName()).isEqualTo("쿼리수테스트방3");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void 게임룸_이름_부분_검색() {
+        //given
+        String[] roomNames = {"닭볶음탕 먹을 사람", "치킨은 역시 후라이드", "Chicken 양념 반반", "볶음밥"};
+        for (int i = 0; i < roomNames.length; i++) {
+            GameRoom gameRoom = gameRoomRepository.save(GameRoom.builder()
+                    .gameRoomName(roomNames[i])
+                    .owner("검색테스트" + i)
+                    .status(true)
+                    .build());
+            Member member = memberRepository.save(new Member("검색테스트" + i + "@test.com", "검색테스트" + i, "password"));
+            gameRoomAttendeeRepository.save(new GameRoomAttendee(gameRoom, member));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        lobbyService.reloadSnapshot();
+        Pageable pageable = PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "gameRoomId"));
+
+        //when
+        GameRoomResponseListDto twoSyllables = gameRoomService.searchGame(pageable, "볶음");
+        GameRoomResponseListDto oneSyllable = gameRoomService.searchGame(pageable, "닭");
+        GameRoomResponseListDto ignoreCase = gameRoomService.searchGame(pageable, "chicken");
+
+        //then : 최신 방 먼저, 검색어 전체가 이어서 들어있는 방만
+        assertThat(twoSyllables.getGameRoomResponseDtoList()).extracting(GameRoomResponseDto::getRoomName)
+                .containsExactly("볶음밥", "닭볶음탕 먹을 사람");
+        assertThat(oneSyllable.getGameRoomResponseDtoList()).extracting(GameRoomResponseDto::getRoomName)
+                .containsExactly("닭볶음탕 먹을 사람");
+        assertThat(ignoreCase.getGameRoomResponseDtoList()).extracting(GameRoomResponseDto::getMemberCnt)
+                .containsExactly(1);
+        assertThatThrownBy(() -> gameRoomService.searchGame(pageable, "볶음닭"))
+                .isInstanceOf(CustomException.class);
+
+        // 오래된 방 먼저 정렬도 적용, 지원하지 않는 정렬은 거절
+        GameRoomResponseListDto ascending = gameRoomService.searchGame(PageRequest.of(0, 4, Sort.by(Sort.Direction.ASC, "gameRoomId")), "볶음");
+        assertThat(ascending.getGameRoomResponseDtoList()).extracting(GameRoomResponseDto::getRoomName)
+                .containsExactly("닭볶음탕 먹을 사람", "볶음밥");
+        assertThatThrownBy(() -> gameRoomService.mainPage(PageRequest.of(0, 4, Sort.by("gameRoomName"))))
+                .isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domain.RefreshToken;
+import com.example.namoldak.repository.RefreshTokenRepository;
+import com.example.namoldak.util.cluster.ClusterEventBus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final RedisKeyValueTemplate redisKeyValueTemplate = mock(RedisKeyValueTemplate.class);
+    private final ClusterEventBus clusterEventBus = mock(ClusterEventBus.class);
+    private final RefreshTokenService refreshTokenService =
+            new RefreshTokenService(refreshTokenRepository, redisKeyValueTemplate, clusterEventBus, 100, 600);
+
+    @Test
+    public void 저장한_토큰은_Redis_조회_없이_비교() {
+        refreshTokenService.upsert("test@test.com", "token1");
+
+        assertThat(refreshTokenService.matches("test@test.com", "token1")).isTrue();
+        verify(refreshTokenRepository, never()).findById(anyString());
+        verify(clusterEventBus).publish("refresh-token", "test@test.com");
+    }
+
+    @Test
+    public void 캐시와_다르면_한_번만_다시_조회() {
+        when(refreshTokenRepository.findById("test@test.com")).thenReturn(Optional.of(new RefreshToken("test@test.com", "token2")));
+        refreshTokenService.upsert("test@test.com", "token1");
+
+        // 다른 서버에서 다시 로그인해서 바뀐 토큰
+        assertThat(refreshTokenService.matches("test@test.com", "token2")).isTrue();
+        assertThat(refreshTokenService.matches("test@test.com", "token2")).isTrue();
+        verify(refreshTokenRepository, times(1)).findById("test@test.com");
+    }
+
+    @Test
+    public void 로그아웃하면_캐시도_비움() {
+        when(redisKeyValueTemplate.delete("test@test.com", RefreshToken.class))
+                .thenReturn(new RefreshToken("test@test.com", "token1"))
+                .thenReturn(null);
+        when(refreshTokenRepository.findById("test@test.com")).thenReturn(Optional.empty());
+        refreshTokenService.upsert("test@test.com", "token1");
+
+        assertThat(refreshTokenService.delete("test@test.com")).isTrue();
+        assertThat(refreshTokenService.matches("test@test.com", "token1")).isFalse();
+        assertThat(refreshTokenService.delete("test@test.com")).isFalse();
+        verify(clusterEventBus, times(2)).publish("refresh-token", "test@test.com");
+    }
+
+    @Test
+    public void 조회_중에_로그아웃하면_읽은_토큰을_캐시에_남기지_않음() throws Exception {
+        //given : Redis 에서 로그아웃 전 토큰을 읽은 채로 멈춰 있는 비교
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(refreshTokenRepository.findById("test@test.com")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(new RefreshToken("test@test.com", "token1"));
+        });
+        when(redisKeyValueTemplate.delete("test@test.com", RefreshToken.class)).thenReturn(new RefreshToken("test@test.com", "token1"));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Boolean> staleMatch = executorService.submit(() -> refreshTokenService.matches("test@test.com", "token1"));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            //when : 비교가 끝나기 전에 로그아웃
+            assertThat(refreshTokenService.delete("test@test.com")).isTrue();
+            release.countDown();
+            assertThat(staleMatch.get(5, TimeUnit.SECONDS)).isTrue();
+
+            //then : 로그아웃한 토큰은 다시 Redis 에서 확인하고 거절
+            doReturn(Optional.empty()).when(refreshTokenRepository).findById("test@test.com");
+            assertThat(refreshTokenService.matches("test@test.com", "token1")).isFalse();
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+}
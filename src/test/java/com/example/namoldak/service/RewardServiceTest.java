@@ -0,0 +1,55 @@
+package com.example.namoldak.service;
+
+import com.example.namoldak.domain.Member;
+import com.example.namoldak.domain.MemberCounter;
+import com.example.namoldak.domain.RewardRule;
+import com.example.namoldak.domainModel.GameCommand;
+import com.example.namoldak.domainModel.GameQuery;
+import com.example.namoldak.repository.RewardCacheRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RewardServiceTest {
+
+    @Test
+    public void 기본_규칙은_부를_때마다_새로_만듦() {
+        List<RewardRule> first = RewardService.defaultRules();
+        List<RewardRule> second = RewardService.defaultRules();
+
+        assertThat(first).hasSameSizeAs(second);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(first.get(i)).isNotSameAs(second.get(i));
+            assertThat(first.get(i).getRewardRuleId()).isNull();
+        }
+    }
+
+    @Test
+    public void 다른_서버가_먼저_기본_규칙을_저장했다면_그_규칙을_다시_읽음() {
+        //given : 처음 조회할 때는 비어 있었지만 저장하는 사이 다른 서버가 먼저 저장함
+        GameCommand gameCommand = mock(GameCommand.class);
+        GameQuery gameQuery = mock(GameQuery.class);
+        when(gameQuery.findAllRewardRule()).thenReturn(Collections.emptyList(),
+                List.of(new RewardRule(MemberCounter.WIN_NUM, 5L, "다른서버닭")));
+        when(gameCommand.saveRewardRules(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        RewardService rewardService = new RewardService(gameCommand, gameQuery, mock(RewardCacheRepository.class));
+
+        //when
+        rewardService.reloadRules();
+
+        //then : 다시 읽은 규칙으로 지급
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(1L);
+        when(member.getWinNum()).thenReturn(5L);
+        Map<MemberCounter, Long> deltas = new EnumMap<>(Map.of(MemberCounter.WIN_NUM, 1L));
+        assertThat(rewardService.grantRewards(List.of(member), Map.of(1L, deltas))).isEqualTo(1);
+        verify(gameQuery, times(2)).findAllRewardRule();
+    }
+}
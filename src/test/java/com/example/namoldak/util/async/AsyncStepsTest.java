@@ -0,0 +1,52 @@
+package com.example.namoldak.util.async;
+
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import com.example.namoldak.util.GlobalResponse.code.StatusCode;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class AsyncStepsTest {
+
+    @Test
+    public void 풀이_가득_차면_앞_단계를_끝낸_스레드에서_실행하지_않고_바로_실패() throws Exception {
+        //given : 작업을 받지 않는 풀, 다른 스레드(비밀번호 암호화 역할)에서 끝나는 앞 단계
+        Executor fullExecutor = task -> {
+            throw new RejectedExecutionException("가득 참");
+        };
+        CompletableFuture<String> previous = new CompletableFuture<>();
+        AtomicReference<String> ranOn = new AtomicReference<>();
+
+        //when
+        CompletableFuture<String> next = AsyncSteps.thenApplyOn(previous, value -> {
+            ranOn.set(Thread.currentThread().getName());
+            return value;
+        }, fullExecutor);
+        Thread hasherThread = new Thread(() -> previous.complete("비교 완료"), "password-hasher-test");
+        hasherThread.start();
+        hasherThread.join(5_000);
+
+        //then : 이어지는 작업은 실행되지 않고 503 으로 끝남
+        Throwable thrown = catchThrowable(() -> next.get(5, TimeUnit.SECONDS));
+        assertThat(thrown).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(CustomException.class);
+        assertThat(((CustomException) thrown.getCause()).getStatusCode()).isEqualTo(StatusCode.MEMBER_TASK_BUSY);
+        assertThat(ranOn.get()).isNull();
+    }
+
+    @Test
+    public void 풀에_자리가_있으면_풀에서_실행() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor(task -> new Thread(task, "member-task-test"));
+
+        try {
+            CompletableFuture<String> next = AsyncSteps.thenApplyOn(CompletableFuture.completedFuture("비교 완료"),
+                    value -> Thread.currentThread().getName(), executorService);
+
+            assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("member-task-test");
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.namoldak.util.converter;
+
+import com.example.namoldak.domain.KeywordAssignment;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class KeywordAssignmentConverterTest {
+
+    private final KeywordAssignmentConverter converter = new KeywordAssignmentConverter();
+
+    @Test
+    public void 닉네임이_중괄호로_시작해도_새_형식으로_읽음() {
+        //given : 첫 닉네임이 { 로 시작
+        KeywordAssignment keywordAssignment = KeywordAssignment.of(Arrays.asList("{닭}", "날개"), Arrays.asList("사자", "토끼"));
+
+        //when
+        String column = converter.convertToDatabaseColumn(keywordAssignment);
+
+        //then
+        assertThat(converter.convertToEntityAttribute(column).asMap())
+                .containsExactly(entry("{닭}", "사자"), entry("날개", "토끼"));
+    }
+
+    @Test
+    public void 예전_JSON_형식도_읽음() {
+        assertThat(converter.convertToEntityAttribute("{\"닭\":\"사자\",\"날개\":\"토끼\"}").asMap())
+                .containsExactly(entry("닭", "사자"), entry("날개", "토끼"));
+    }
+}
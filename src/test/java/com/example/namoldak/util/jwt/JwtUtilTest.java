@@ -0,0 +1,54 @@
+package com.example.namoldak.util.jwt;
+
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil(long verifiedCacheSize) {
+        JwtUtil jwtUtil = new JwtUtil(null, null);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", verifiedCacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    @Test
+    public void 검증과_동시에_Claims_반환() {
+        JwtUtil jwtUtil = jwtUtil(0);
+        String token = jwtUtil.createToken("test@test.com", "Access");
+
+        Claims claims = jwtUtil.validateAndGetClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("test@test.com");
+        assertThat(jwtUtil.getUserInfoFromToken(token)).isEqualTo("test@test.com");
+    }
+
+    @Test
+    public void 최근_검증한_토큰은_다시_파싱하지_않음() {
+        JwtUtil jwtUtil = jwtUtil(100);
+        String token = jwtUtil.createToken("test@test.com", "Access");
+
+        Claims first = jwtUtil.validateAndGetClaims(token);
+        Claims second = jwtUtil.validateAndGetClaims(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void 서명이_바뀐_토큰은_캐시와_상관없이_거부() {
+        JwtUtil jwtUtil = jwtUtil(100);
+        String token = jwtUtil.createToken("test@test.com", "Access");
+        jwtUtil.validateAndGetClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtil.validateAndGetClaims(tampered)).isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.namoldak.util.oauth;
+
+import com.example.namoldak.dto.RequestDto.KakaoUserInfoDto;
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 카카오 API 대신 로컬 스텁 서버로 확인
+class KakaoClientTest {
+
+    private HttpServer stub;
+    private String baseUri;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile String tokenRequestBody;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/oauth/token", exchange -> {
+            tokenRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            respond(exchange, 200, "{\"access_token\":\"kakao-access\",\"token_type\":\"bearer\"}");
+        });
+        stub.createContext("/v2/user/me", exchange -> {
+            if (!"Bearer kakao-access".equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                respond(exchange, 401, "{}");
+                return;
+            }
+            respond(exchange, 200, "{\"id\":1234,\"properties\":{\"nickname\":\"꼬꼬닭\"},\"kakao_account\":{\"email\":\"kko@kakao.com\"}}");
+        });
+        stub.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException ignored) {
+            }
+            respond(exchange, 200, "{}");
+        });
+        stub.start();
+        baseUri = "http://127.0.0.1:" + stub.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private KakaoClient client(String tokenPath, long requestTimeoutMs) {
+        return new KakaoClient(new ObjectMapper(), "client-id",
+                baseUri + tokenPath, baseUri + "/v2/user/me", "https://namoldak.com/login", 500, requestTimeoutMs);
+    }
+
+    @Test
+    public void 토큰과_사용자_정보를_연결_하나로_조회() throws Exception {
+        KakaoClient kakaoClient = client("/oauth/token", 1000);
+
+        String accessToken = kakaoClient.requestToken("인가코드").get(5, TimeUnit.SECONDS);
+        KakaoUserInfoDto userInfo = kakaoClient.requestUserInfo(accessToken).get(5, TimeUnit.SECONDS);
+
+        assertThat(accessToken).isEqualTo("kakao-access");
+        assertThat(tokenRequestBody).contains("grant_type=authorization_code", "client_id=client-id",
+                "redirect_uri=https%3A%2F%2Fnamoldak.com%2Flogin", "code=%EC%9D%B8%EA%B0%80%EC%BD%94%EB%93%9C");
+        assertThat(userInfo.getId()).isEqualTo(1234L);
+        assertThat(userInfo.getNickname()).isEqualTo("꼬꼬닭");
+        assertThat(userInfo.getEmail()).isEqualTo("kko@kakao.com");
+        // keep-alive 로 같은 연결을 재사용
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    public void 응답이_늦으면_시간_제한으로_실패() {
+        KakaoClient kakaoClient = client("/slow", 300);
+
+        assertThatThrownBy(() -> kakaoClient.requestToken("인가코드").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CustomException.class);
+    }
+
+    @Test
+    public void 오류_응답은_카카오_로그인_실패() {
+        KakaoClient kakaoClient = client("/oauth/token", 1000);
+
+        assertThatThrownBy(() -> kakaoClient.requestUserInfo("wrong-token").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.namoldak.util.security;
+
+import com.example.namoldak.util.GlobalResponse.CustomException;
+import com.example.namoldak.util.GlobalResponse.code.StatusCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 로그인 폭주 시 요청 스레드 지연 측정은 src/jmh 의 PasswordHasherBenchmark 에서 확인
+class PasswordHasherTest {
+
+    @Test
+    public void 대기열이_가득_차면_기다리지_않고_바로_실패() throws Exception {
+        //given : 스레드 1개, 대기열 1칸, 비교가 끝나지 않도록 막아둔 encoder
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+        when(blockingEncoder.matches(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+        PasswordHasher passwordHasher = new PasswordHasher(blockingEncoder, 1, 1);
+
+        try {
+            //when : 실행 중 1개, 대기 1개가 찬 상태에서 하나 더 요청
+            CompletableFuture<Boolean> running = passwordHasher.matches("password", "encoded");
+            CompletableFuture<Boolean> queued = passwordHasher.matches("password", "encoded");
+            CompletableFuture<Boolean> rejected = passwordHasher.matches("password", "encoded");
+
+            //then : 세 번째 요청은 이미 실패한 상태로 반환됨
+            assertThat(rejected).isCompletedExceptionally();
+            Throwable thrown = catchThrowable(rejected::join);
+            assertThat(thrown).isInstanceOf(CompletionException.class).hasCauseInstanceOf(CustomException.class);
+            assertThat(((CustomException) thrown.getCause()).getStatusCode()).isEqualTo(StatusCode.PASSWORD_HASHING_BUSY);
+
+            // 막아둔 비교가 풀리면 앞의 두 요청은 정상 처리
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            passwordHasher.destroy();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.namoldak.util.webSocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboundSessionQueueTest {
+
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        drainExecutor.shutdownNow();
+    }
+
+    @Test
+    public void 느린_세션은_오래된_candidate_부터_버리고_순서는_유지() throws Exception {
+        //given : 첫 메세지 전송에서 멈춰있는 느린 세션, 대기 한도 3
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        WebSocketSession slowSession = mockSession(message -> {
+            firstSendStarted.countDown();
+            releaseSend.await();
+            sent.add((String) message.getPayload());
+        });
+        OutboundSessionQueue outboundQueue = new OutboundSessionQueue(slowSession, 3, OutboundSessionQueue.OverflowPolicy.DROP_OLDEST_CANDIDATE, drainExecutor, 60000);
+
+        //when : 전송이 막혀 있는 동안 offer 1개, candidate 4개, answer 1개
+        outboundQueue.sendMessage(new TextMessage("offer"));
+        assertThat(firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        long start = System.nanoTime();
+        for (int i = 1; i <= 4; i++) {
+            outboundQueue.sendCandidate(new TextMessage("candidate" + i));
+        }
+        outboundQueue.sendMessage(new TextMessage("answer"));
+        long enqueueMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        //then : 보내는 쪽은 기다리지 않고, 한도를 넘는 만큼 오래된 candidate 부터 버림
+        assertThat(enqueueMillis).isLessThan(1000);
+        assertThat(outboundQueue.getBacklog()).isEqualTo(3);
+        assertThat(outboundQueue.getDroppedCount()).isEqualTo(2);
+
+        releaseSend.countDown();
+        drainExecutor.shutdown();
+        assertThat(drainExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).containsExactly("offer", "candidate3", "candidate4", "answer");
+        assertThat(outboundQueue.getSentCount()).isEqualTo(4);
+        assertThat(outboundQueue.getMaxBacklog()).isEqualTo(3);
+        verify(slowSession, never()).close(any());
+    }
+
+    @Test
+    public void CLOSE_정책이면_한도를_넘을_때_세션_종료() throws Exception {
+        //given
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        WebSocketSession slowSession = mockSession(message -> releaseSend.await());
+        OutboundSessionQueue outboundQueue = new OutboundSessionQueue(slowSession, 2, OutboundSessionQueue.OverflowPolicy.CLOSE, drainExecutor, 60000);
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            outboundQueue.sendCandidate(new TextMessage("candidate" + i));
+        }
+
+        //then
+        verify(slowSession, timeout(5000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(outboundQueue.getBacklog()).isZero();
+        releaseSend.countDown();
+    }
+
+    @Test
+    public void 전송이_제한_시간을_넘겨_멈추면_세션을_닫고_스레드를_돌려받음() throws Exception {
+        //given : 세션이 닫힐 때까지 전송이 멈춰 있는 세션, 전송 제한 50ms
+        CountDownLatch sendStarted = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        WebSocketSession stalledSession = mockSession(message -> {
+            sendStarted.countDown();
+            closed.await();
+            throw new IllegalStateException("세션이 닫힘");
+        });
+        doAnswer(invocation -> {
+            closed.countDown();
+            return null;
+        }).when(stalledSession).close(any());
+        OutboundSessionQueue outboundQueue = new OutboundSessionQueue(stalledSession, 8, OutboundSessionQueue.OverflowPolicy.DROP_OLDEST_CANDIDATE, drainExecutor, 50);
+        outboundQueue.sendMessage(new TextMessage("offer"));
+        outboundQueue.sendMessage(new TextMessage("answer"));
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //when : 제한 시간이 지난 뒤 확인
+        Thread.sleep(100);
+        assertThat(outboundQueue.checkSendTimeLimit()).isTrue();
+
+        //then : 세션이 닫히고 대기열이 비워져 drain 스레드가 다른 세션의 전송을 처리할 수 있음
+        verify(stalledSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(outboundQueue.getBacklog()).isZero();
+        CountDownLatch otherSent = new CountDownLatch(1);
+        drainExecutor.execute(otherSent::countDown);
+        assertThat(otherSent.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private WebSocketSession mockSession(SendAction sendAction) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("slow");
+        doAnswer(invocation -> {
+            sendAction.send(invocation.getArgument(0));
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    private interface SendAction {
+        void send(WebSocketMessage<?> message) throws Exception;
+    }
+}
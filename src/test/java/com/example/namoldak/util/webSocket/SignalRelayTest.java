@@ -0,0 +1,56 @@
+package com.example.namoldak.util.webSocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void 라우팅_필드만_읽고_중계할_값은_원본_그대로_전달() throws Exception {
+        //given : 중첩 객체와 따옴표가 들어간 candidate 메세지
+        String payload = "{\"type\":\"candidate\",\"roomId\":12,\"sender\":\"닭다리\",\"nickname\":\"닭\\\"다리\","
+                + "\"candidate\":{\"candidate\":\"candidate:1 1 udp 2122260223 192.168.0.12 49203 typ host\",\"receiver\":\"가짜\",\"sdpMLineIndex\":0},"
+                + "\"data\":\"}\\\"{\",\"sdp\":null,\"receiver\":\"e5f6g7h8\"}";
+
+        //when
+        SignalRelay.Routing routing = SignalRelay.parseRouting(payload);
+        String relay = SignalRelay.withSender(routing, "a1b2c3d4");
+
+        //then : 중첩 객체 안의 같은 이름 필드는 무시
+        assertThat(routing.getType()).isEqualTo("candidate");
+        assertThat(routing.getRoomId()).isEqualTo(12L);
+        assertThat(routing.getReceiver()).isEqualTo("e5f6g7h8");
+        assertThat(routing.getNickname()).isEqualTo("닭\"다리");
+
+        JsonNode original = objectMapper.readTree(payload);
+        JsonNode relayed = objectMapper.readTree(relay);
+        assertThat(relayed.get("type").asText()).isEqualTo("candidate");
+        assertThat(relayed.get("sender").asText()).isEqualTo("a1b2c3d4");
+        assertThat(relayed.get("senderNickName").asText()).isEqualTo("닭\"다리");
+        assertThat(relayed.get("receiver").asText()).isEqualTo("e5f6g7h8");
+        assertThat(relayed.get("candidate")).isEqualTo(original.get("candidate"));
+        assertThat(relayed.get("data")).isEqualTo(original.get("data"));
+        // null 값과 중계 대상이 아닌 필드는 전달하지 않음
+        assertThat(relayed.has("sdp")).isFalse();
+        assertThat(relayed.has("roomId")).isFalse();
+        assertThat(relay).containsOnlyOnce("\"sender\"");
+    }
+
+    @Test
+    public void 클라이언트가_보낸_sender와_추가_필드는_전달하지_않음() throws Exception {
+        String payload = "{\"type\":\"offer\",\"roomId\":3,\"sender\":\"남의세션\",\"senderNickName\":\"가짜닉네임\","
+                + "\"receiver\":\"e5f6g7h8\",\"offer\":{\"type\":\"offer\",\"sdp\":\"v=0\"},\"admin\":true}";
+
+        JsonNode relayed = objectMapper.readTree(SignalRelay.withSender(SignalRelay.parseRouting(payload), "a1b2c3d4"));
+
+        assertThat(relayed.get("sender").asText()).isEqualTo("a1b2c3d4");
+        assertThat(relayed.has("senderNickName")).isFalse();
+        assertThat(relayed.has("admin")).isFalse();
+        assertThat(relayed.get("offer")).isEqualTo(objectMapper.readTree(payload).get("offer"));
+    }
+}